@@ -0,0 +1,8 @@
+-- Indexes behind the admin voter search (VoterQuery).
+-- Name and surname terms are matched with `=` or a prefix LIKE, which can seek these
+-- indexes; without them every keystroke scans VOTERS.
+-- Run once per database before deploying the admin app. Safe to skip if an index
+-- already leads with the same column.
+
+CREATE INDEX idx_voters_name ON VOTERS (NAME);
+CREATE INDEX idx_voters_surname ON VOTERS (SURNAME);
@@ -0,0 +1,7 @@
+-- Index behind the dashboard's vote counters (VoteTally, VoteRate, VotingSummaryEngine).
+-- "Today", hourly buckets and the tally's watermark tail are all vote_timestamp range
+-- queries; without this index each 30 s refresh scans Votes.
+-- Deployment prerequisite: build it before polling starts, ideally before voting opens,
+-- since it is a full-table build on the table the voting app inserts into.
+
+CREATE INDEX idx_votes_vote_timestamp ON Votes (vote_timestamp);
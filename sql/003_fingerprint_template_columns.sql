@@ -0,0 +1,6 @@
+-- Extracted ANSI-378 templates stored next to the raw enrollment image
+-- (FingerprintTemplateStore). Until this runs the admin app stores and compares raw
+-- images only.
+
+ALTER TABLE VOTERS ADD COLUMN FINGERPRINT_FMD BLOB NULL, ADD COLUMN FMD_FORMAT VARCHAR(32) NULL;
+ALTER TABLE Admins ADD COLUMN FINGERPRINT_FMD BLOB NULL, ADD COLUMN FMD_FORMAT VARCHAR(32) NULL;
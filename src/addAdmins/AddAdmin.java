@@ -3,6 +3,7 @@ package addAdmins;
 import adminApp.AdminDatabaseLogic;
 import adminApp.CaptureThread;
 import adminApp.AdminDatabaseConnectivity;
+import adminApp.FingerprintTemplateStore;
 import com.digitalpersona.uareu.*;
 
 import javax.swing.*;
@@ -114,13 +115,39 @@ public class AddAdmin extends JPanel implements ActionListener {
             m_capture.start(evt -> {
                 CaptureThread.CaptureEvent captureEvt = (CaptureThread.CaptureEvent) evt;
 
-                if (captureEvt.capture_result != null) {
+                if (captureEvt.error != null) {
+                    JOptionPane.showMessageDialog(this,
+                            "Error during fingerprint capture: " + captureEvt.error.getMessage(),
+                            "Capture Error",
+                            JOptionPane.ERROR_MESSAGE);
+                    fingerDialogue.dispose();
+                    StopCaptureThread();
+
+                    try {
+                        m_reader.Close();
+                        System.out.println("🔒 Reader closed.");
+                    } catch (UareUException ignored) {
+                    }
+                } else if (captureEvt.capture_result != null) {
                     System.out.println("🧩 Capture quality: " + captureEvt.capture_result.quality);
 
                     if (captureEvt.capture_result.quality == Reader.CaptureQuality.GOOD) {
+                        Fid image = captureEvt.capture_result.image;
+                        byte[] template = null;
+                        try {
+                            template = FingerprintTemplateStore.extractTemplate(image);
+                        } catch (UareUException ex) {
+                            System.out.println("⚠️ Template extraction failed, storing image only: " + ex.getMessage());
+                        }
+
+                        if (conn == null) {
+                            conn = AdminDatabaseConnectivity.getConnection();
+                        }
+
                         AdminDatabaseLogic.saveAdmin(
                                 conn,
-                                captureEvt.capture_result.image.getData(),
+                                image.getData(),
+                                template,
                                 nameField.getText(),
                                 surnameField.getText(),
                                 idField.getText()
@@ -11,8 +11,13 @@ import java.sql.SQLException;
 public class AddVoters extends JPanel implements ActionListener {
 
     private static final long serialVersionUID = 1L;
+    // Queue-stations keep the reader open and stream frames between voters
+    private static final boolean STREAMING_ENROLLMENT = Boolean.getBoolean("admin.enrollment.streaming");
+    private static final int FRAME_QUEUE_CAPACITY = 4;
+    private static final long FRAME_WAIT_MILLIS = 30000;
 
     private CaptureThread captureThread;
+    private StreamingCaptureSession captureSession;
     private Reader reader;
     private JDialog parentDialog;
     private JLabel nameLabel, surnameLabel, idLabel;
@@ -134,6 +139,12 @@ public class AddVoters extends JPanel implements ActionListener {
     }
 
     private void stopCaptureThread() {
+        if (captureSession != null) {
+            captureSession.close();
+            captureSession = null;
+            return;
+        }
+
         if (captureThread != null) {
             try {
                 captureThread.cancel();
@@ -182,6 +193,11 @@ public class AddVoters extends JPanel implements ActionListener {
                 return;
             }
 
+            if (STREAMING_ENROLLMENT) {
+                captureFromSession();
+                return;
+            }
+
             try {
                 reader.Open(Reader.Priority.COOPERATIVE);
                 System.out.println("Reader opened successfully.");
@@ -193,33 +209,7 @@ public class AddVoters extends JPanel implements ActionListener {
                 return;
             }
 
-            fingerprintDialog = new JDialog(parentDialog, "Fingerprint Capture", false); // Changed to false
-            fingerprintDialog.setLayout(new BorderLayout());
-            fingerprintDialog.setSize(400, 180);
-            fingerprintDialog.setLocationRelativeTo(parentDialog);
-            fingerprintDialog.setResizable(false);
-
-            JPanel contentPanel = new JPanel(new BorderLayout(10, 10));
-            contentPanel.setBorder(BorderFactory.createEmptyBorder(25, 25, 25, 25));
-            contentPanel.setBackground(Color.WHITE);
-
-            JLabel iconLabel = new JLabel("", SwingConstants.CENTER);
-            iconLabel.setFont(new Font("Segoe UI", Font.PLAIN, 36));
-
-            JLabel instructionLabel = new JLabel("<html><center>Please place your finger<br>on the fingerprint scanner</center></html>", SwingConstants.CENTER);
-            instructionLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
-            instructionLabel.setForeground(new Color(80, 80, 80));
-
-            JProgressBar progressBar = new JProgressBar();
-            progressBar.setIndeterminate(true);
-            progressBar.setPreferredSize(new Dimension(300, 20));
-
-            contentPanel.add(iconLabel, BorderLayout.NORTH);
-            contentPanel.add(instructionLabel, BorderLayout.CENTER);
-            contentPanel.add(progressBar, BorderLayout.SOUTH);
-
-            fingerprintDialog.add(contentPanel);
-            fingerprintDialog.setVisible(true);
+            showFingerprintDialog();
 
             // Start capture thread
             captureThread = new CaptureThread(reader, false, Fid.Format.ANSI_381_2004,
@@ -227,19 +217,18 @@ public class AddVoters extends JPanel implements ActionListener {
 
             captureThread.start(evt -> {
                 CaptureThread.CaptureEvent captureEvent = (CaptureThread.CaptureEvent) evt;
-                if (captureEvent.capture_result != null) {
+                if (captureEvent.error != null) {
+                    JOptionPane.showMessageDialog(this,
+                            "Error during fingerprint capture: " + captureEvent.error.getMessage(),
+                            "Capture Error",
+                            JOptionPane.ERROR_MESSAGE);
+                    fingerprintDialog.dispose();
+                    stopCaptureThread();
+                } else if (captureEvent.capture_result != null) {
                     System.out.println("Capture quality: " + captureEvent.capture_result.quality);
 
                     if (captureEvent.capture_result.quality == Reader.CaptureQuality.GOOD) {
-                        boolean success = AdminDatabaseLogic.saveVoter(
-                                databaseConnection,
-                                captureEvent.capture_result.image.getData(),
-                                nameField.getText().trim(),
-                                surnameField.getText().trim(),
-                                idField.getText().trim()
-                        );
-
-                        if (success) {
+                        if (saveCapturedVoter(captureEvent.capture_result.image)) {
                             clearForm();
                             if (parentDialog != null) {
                                 parentDialog.dispose();
@@ -266,6 +255,108 @@ public class AddVoters extends JPanel implements ActionListener {
         }
     }
 
+    private void showFingerprintDialog() {
+        fingerprintDialog = new JDialog(parentDialog, "Fingerprint Capture", false); // Changed to false
+        fingerprintDialog.setLayout(new BorderLayout());
+        fingerprintDialog.setSize(400, 180);
+        fingerprintDialog.setLocationRelativeTo(parentDialog);
+        fingerprintDialog.setResizable(false);
+
+        JPanel contentPanel = new JPanel(new BorderLayout(10, 10));
+        contentPanel.setBorder(BorderFactory.createEmptyBorder(25, 25, 25, 25));
+        contentPanel.setBackground(Color.WHITE);
+
+        JLabel iconLabel = new JLabel("", SwingConstants.CENTER);
+        iconLabel.setFont(new Font("Segoe UI", Font.PLAIN, 36));
+
+        JLabel instructionLabel = new JLabel("<html><center>Please place your finger<br>on the fingerprint scanner</center></html>", SwingConstants.CENTER);
+        instructionLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        instructionLabel.setForeground(new Color(80, 80, 80));
+
+        JProgressBar progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setPreferredSize(new Dimension(300, 20));
+
+        contentPanel.add(iconLabel, BorderLayout.NORTH);
+        contentPanel.add(instructionLabel, BorderLayout.CENTER);
+        contentPanel.add(progressBar, BorderLayout.SOUTH);
+
+        fingerprintDialog.add(contentPanel);
+        fingerprintDialog.setVisible(true);
+    }
+
+    /**
+     * Waits for the next GOOD frame from the long-lived capture session.
+     * The reader stays open, so the form is cleared for the next voter instead of closed.
+     */
+    private void captureFromSession() {
+        try {
+            if (captureSession == null) {
+                captureSession = new StreamingCaptureSession(reader, FRAME_QUEUE_CAPACITY,
+                        Fid.Format.ANSI_381_2004, Reader.ImageProcessing.IMG_PROC_DEFAULT);
+            }
+            captureSession.start();
+        } catch (UareUException e) {
+            captureSession = null;
+            JOptionPane.showMessageDialog(this,
+                    "Failed to open fingerprint reader: " + e.getMessage(),
+                    "Reader Error",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        // Frames left over from the previous voter's touch must not be enrolled for this one
+        StreamingCaptureSession session = captureSession;
+        session.drain();
+        showFingerprintDialog();
+
+        AdminExecutors.run(() -> {
+            Reader.CaptureResult frame = null;
+            try {
+                frame = session.take(FRAME_WAIT_MILLIS);
+            } catch (InterruptedException ignored) {
+            }
+
+            final Reader.CaptureResult result = frame;
+            SwingUtilities.invokeLater(() -> {
+                fingerprintDialog.dispose();
+                if (result == null) {
+                    JOptionPane.showMessageDialog(this,
+                            "No fingerprint was detected. Please try again.",
+                            "Capture Timeout",
+                            JOptionPane.WARNING_MESSAGE);
+                    return;
+                }
+                if (saveCapturedVoter(result.image)) {
+                    clearForm();
+                    nameField.requestFocusInWindow();
+                }
+            });
+        });
+    }
+
+    private boolean saveCapturedVoter(Fid image) {
+        byte[] template = null;
+        try {
+            template = FingerprintTemplateStore.extractTemplate(image);
+        } catch (UareUException ex) {
+            System.err.println("Template extraction failed, storing image only: " + ex.getMessage());
+        }
+
+        boolean saved = AdminDatabaseLogic.saveVoter(
+                databaseConnection,
+                image.getData(),
+                template,
+                nameField.getText().trim(),
+                surnameField.getText().trim(),
+                idField.getText().trim()
+        );
+        if (saved) {
+            AdminDatabaseConnectivity.markConnectionUsed(databaseConnection);
+        }
+        return saved;
+    }
+
     private void clearForm() {
         nameField.setText("");
         surnameField.setText("");
@@ -299,16 +390,22 @@ public class AddVoters extends JPanel implements ActionListener {
 
             databaseConnection = connection;
 
+            // Build the duplicate-check index while the operator fills in the form
+            VoterTemplateIndex.getInstance().warmUp();
+
             ReaderCollection collection = UareUGlobal.GetReaderCollection();
-            collection.GetReaders();
+            Reader selectedReader = reader != null ? reader : Selection.Select(collection);
 
-            if (collection.size() > 0) {
-                Reader selectedReader = reader != null ? reader : collection.get(0);
+            if (selectedReader != null) {
                 System.out.println("Using reader: " + selectedReader.GetDescription().name);
 
                 JDialog dialog = new JDialog((Frame) null, "Voter Enrollment", true);
                 AddVoters gui = new AddVoters(selectedReader, databaseConnection);
                 gui.showDialog(dialog);
+                if (gui.captureSession != null) {
+                    // Dialog closed from the title bar; release the streaming reader
+                    gui.stopCaptureThread();
+                }
             } else {
                 JOptionPane.showMessageDialog(null,
                         "No fingerprint readers found! Please connect a fingerprint scanner.",
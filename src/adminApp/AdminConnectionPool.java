@@ -0,0 +1,280 @@
+package adminApp;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Iterator;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of admin database connections.
+ * Callers borrow a connection per task and hand it back by calling close() on it,
+ * so background loads no longer queue behind one shared socket.
+ * Ordinary borrows share a fair limit below the pool size and queue for it; the rest of the
+ * pool is kept for {@link #borrowReserved()}, so a flood of background work can't starve it.
+ */
+public class AdminConnectionPool {
+
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+    private final long queueTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long maxLifetimeMillis;
+    private final ConnectionValidationPolicy validationPolicy;
+
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final Semaphore shared;
+    private final AtomicInteger openCount = new AtomicInteger();
+    private volatile int generation = 0;
+    private volatile boolean shutdown = false;
+
+    public AdminConnectionPool(int maxSize, int reserved, long borrowTimeoutMillis, long queueTimeoutMillis,
+            long idleTimeoutMillis, long maxLifetimeMillis, ConnectionValidationPolicy validationPolicy) {
+        this.maxSize = maxSize;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        this.validationPolicy = validationPolicy;
+        this.permits = new Semaphore(maxSize, true);
+        this.shared = new Semaphore(Math.max(1, maxSize - reserved), true);
+    }
+
+    /**
+     * Holder for one physical connection and its bookkeeping.
+     */
+    private static class PooledConnection {
+        final Connection physical;
+        final long createdAt;
+        final int generation;
+        volatile long lastReturnedAt;
+
+        PooledConnection(Connection physical, int generation) {
+            this.physical = physical;
+            this.createdAt = System.currentTimeMillis();
+            this.lastReturnedAt = createdAt;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Borrows a connection, first queueing (up to the queue timeout) for one of the shared leases.
+     * The returned connection must be closed to give it back to the pool.
+     */
+    public Connection borrow() throws SQLException {
+        try {
+            if (!shared.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("Timed out after " + queueTimeoutMillis
+                        + " ms queueing for a database connection (" + getStatus() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while queueing for a database connection", e);
+        }
+
+        try {
+            return borrow(true);
+        } catch (SQLException | RuntimeException e) {
+            shared.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Borrows without queueing behind ordinary borrowers, from the connections they can't use.
+     * For the scheduler's jobs, which run one at a time.
+     */
+    public Connection borrowReserved() throws SQLException {
+        return borrow(false);
+    }
+
+    /**
+     * Borrows a connection, waiting up to the configured borrow timeout when the pool is exhausted.
+     */
+    private Connection borrow(boolean holdsShared) throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("Timed out after " + borrowTimeoutMillis
+                        + " ms waiting for a pooled connection (" + getStatus() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection", e);
+        }
+
+        try {
+            PooledConnection pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (isExpired(pooled, System.currentTimeMillis()) || !validationPolicy.validate(pooled.physical)) {
+                    discard(pooled);
+                    continue;
+                }
+                return wrap(pooled, holdsShared);
+            }
+
+            Connection physical = AdminDatabaseConnectivity.openPhysicalConnection();
+            openCount.incrementAndGet();
+            validationPolicy.markUsed(physical);
+            return wrap(new PooledConnection(physical, generation), holdsShared);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes idle connections that have sat unused too long or outlived their maximum lifetime.
+     */
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> it = idle.iterator();
+        while (it.hasNext()) {
+            PooledConnection pooled = it.next();
+            if (isExpired(pooled, now) && idle.remove(pooled)) {
+                discard(pooled);
+            }
+        }
+    }
+
+    /**
+     * Drops every idle connection and retires the ones currently borrowed once they are returned.
+     */
+    public void reset() {
+        generation++;
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+    }
+
+    /**
+     * Permanently closes the pool.
+     */
+    public void shutdown() {
+        shutdown = true;
+        reset();
+    }
+
+    public String getStatus() {
+        int inUse = maxSize - permits.availablePermits();
+        return "pool open=" + openCount.get() + ", in use=" + inUse + ", idle=" + idle.size() + ", max=" + maxSize
+                + ", queued=" + shared.getQueueLength();
+    }
+
+    private boolean isExpired(PooledConnection pooled, long now) {
+        return pooled.generation != generation
+                || now - pooled.createdAt >= maxLifetimeMillis
+                || now - pooled.lastReturnedAt >= idleTimeoutMillis;
+    }
+
+    private void release(PooledConnection pooled, boolean broken, boolean holdsShared) {
+        try {
+            boolean reusable = !broken && !shutdown && !pooled.physical.isClosed()
+                    && pooled.generation == generation
+                    && System.currentTimeMillis() - pooled.createdAt < maxLifetimeMillis;
+            if (reusable && !pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            if (reusable) {
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                validationPolicy.markUsed(pooled.physical);
+                idle.offerFirst(pooled);
+            } else {
+                discard(pooled);
+            }
+        } catch (SQLException e) {
+            System.err.println("⚠️ Discarding pooled connection after reset failure: " + e.getMessage());
+            discard(pooled);
+        } finally {
+            permits.release();
+            if (holdsShared) {
+                shared.release();
+            }
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        openCount.decrementAndGet();
+        validationPolicy.forget(pooled.physical);
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            System.err.println("⚠️ Failed to close pooled connection: " + e.getMessage());
+        }
+    }
+
+    private Connection wrap(PooledConnection pooled, boolean holdsShared) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new LeaseHandler(pooled, holdsShared));
+    }
+
+    /**
+     * Forwards calls to the physical connection until the lease is closed.
+     */
+    private class LeaseHandler implements InvocationHandler {
+
+        private final PooledConnection pooled;
+        private final boolean holdsShared;
+        private boolean returned = false;
+        private boolean broken = false;
+
+        LeaseHandler(PooledConnection pooled, boolean holdsShared) {
+            this.pooled = pooled;
+            this.holdsShared = holdsShared;
+        }
+
+        @Override
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pooled, broken, holdsShared);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    String state = ((SQLException) cause).getSQLState();
+                    if (state != null && state.startsWith("08")) {
+                        broken = true;
+                    }
+                }
+                throw cause;
+            }
+        }
+    }
+}
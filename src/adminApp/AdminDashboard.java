@@ -7,17 +7,13 @@ import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionListener;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Vector;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.Consumer;
 
 public class AdminDashboard extends JFrame {
 
@@ -25,15 +21,15 @@ public class AdminDashboard extends JFrame {
     private CardLayout cardLayout;
 
     private JTable candidateTable;
-    private DefaultTableModel candidateModel;
+    private LazyTableModel candidateModel;
     private String currentTable = "NationalBallot";
     private JPanel categoryTabs;
 
     private JTable voterTable;
-    private DefaultTableModel voterModel;
+    private LazyTableModel voterModel;
 
     private JTable statsTable;
-    private DefaultTableModel statsModel;
+    private LazyTableModel statsModel;
 
     private JTable fraudTable;
     private DefaultTableModel fraudModel;
@@ -42,108 +38,55 @@ public class AdminDashboard extends JFrame {
     private JLabel header;
     private JTextArea fraudReportsArea;
     private AdminLogin loginWindow;
-    private Timer connectionMonitorTimer;
-    private Timer autoRefreshTimer;
+    // Connection check and fraud report refresh, run together on the shared scheduler
+    private volatile AdminScheduler.Job autoRefreshJob;
+    private static final long AUTO_REFRESH_MILLIS = 30000;
 
     private JTextField candidateSearchField;
     private JTextField voterSearchField;
     private JTextField statsSearchField;
+    private JLabel voteRateLabel;
 
-    // Performance optimization: Thread pool for background tasks
-    private final ExecutorService backgroundExecutor = Executors.newFixedThreadPool(3);
+    // One thread per background task (virtual where available), with database access limited across them
+    private final ExecutorService backgroundExecutor = AdminExecutors.newDatabaseExecutor("admin-dashboard");
+
+    // Search-as-you-type state per search box
+    private final IncrementalSearch candidateSearch = new IncrementalSearch(backgroundExecutor);
+    private final IncrementalSearch voterSearch = new IncrementalSearch(backgroundExecutor);
+    private final IncrementalSearch statsSearch = new IncrementalSearch(backgroundExecutor);
     
-    // Cache for frequently accessed data - Fixed: Separate cache for each ballot type
-    private Map<String, List<Vector<Object>>> cachedCandidatesByTable = new HashMap<>();
-    private Map<String, Long> lastCandidateUpdateByTable = new HashMap<>();
-    private List<Vector<Object>> cachedVoters = new ArrayList<>();
-    private List<Vector<Object>> cachedStats = new ArrayList<>();
-    private long lastVoterUpdate = 0;
-    private long lastStatsUpdate = 0;
-    private static final long CACHE_TIMEOUT = 30000; // 30 seconds
+    // Cache for frequently accessed data, one versioned entry per ballot table, voters and stats
+    private final DashboardCache cache = new DashboardCache();
+    private static final String[] BALLOT_TABLES = {"NationalBallot", "RegionalBallot", "ProvincialBallot"};
+    // Keyset paging state for the voter table: pages already in the cached snapshot, more fetched on scroll
+    private volatile boolean voterPagesExhausted = false;
+    private volatile boolean voterSearchActive = false;
+    private final AtomicBoolean voterPageLoading = new AtomicBoolean(false);
+    // Start fetching the next page when the viewport is this many rows from the bottom
+    private static final int VOTER_PREFETCH_ROWS = 50;
+    // Per-panel serving windows: served as-is while fresh, served and reloaded in the background while stale
+    private final DashboardCache.Policy candidatePolicy = DashboardCache.Policy.forPanel("candidates", 30000, 10 * 60 * 1000);
+    private final DashboardCache.Policy voterPolicy = DashboardCache.Policy.forPanel("voters", 30000, 10 * 60 * 1000);
+    private final DashboardCache.Policy statsPolicy = DashboardCache.Policy.forPanel("stats", 30000, 5 * 60 * 1000);
+    // Concurrent loads of the same panel share one query; keyed by cache key and version
+    private final SingleFlightLoader<String, List<Vector<Object>>> tableLoads = new SingleFlightLoader<>(backgroundExecutor);
+    private final SingleFlightLoader<String, VoterSnapshot> voterLoads = new SingleFlightLoader<>(backgroundExecutor);
     
     // Loading indicators
     private JProgressBar loadingBar;
     private JDialog loadingDialog;
 
+    /**
+     * Registers the dashboard's periodic work with the shared scheduler: one job that checks
+     * the connection and, if it is still up, refreshes the fraud report.
+     */
     private void startAutoRefresh() {
-        autoRefreshTimer = new Timer(true);
-        autoRefreshTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
-                    @Override
-                    protected Void doInBackground() throws Exception {
-                        if (!checkConnectionBeforeOperation()) {
-                            return null;
-                        }
-
-                        StringBuilder reports = new StringBuilder();
-                        reports.append("======= Real-time Fraud Detection =======\n");
-                        reports.append("Last Updated: ").append(new java.util.Date()).append("\n\n");
-
-                        if (conn != null) {
-                            try {
-                                Vector<Object> stats = AdminDatabaseLogic.getVotingStatisticsSummary(conn);
-                                List<Vector<Object>> recentFraud = AdminDatabaseLogic.getFraudAttempts(conn);
-
-                                if (stats.size() >= 4) {
-                                    reports.append("VOTING STATISTICS:\n");
-                                    reports.append("• Total Voters: ").append(stats.get(0)).append("\n");
-                                    reports.append("• Total Votes: ").append(stats.get(1)).append("\n");
-                                    reports.append("• Votes Today: ").append(stats.get(2)).append("\n");
-                                    reports.append("• Total Casted Ballots: ").append(stats.get(3)).append("\n");
-                                    reports.append("• Active Fraud Cases: ").append(stats.get(4)).append("\n\n");
-                                }
-
-                                if (!recentFraud.isEmpty()) {
-                                    reports.append("RECENT FRAUD ATTEMPTS:\n");
-                                    int count = 0;
-                                    for (Vector<Object> fraud : recentFraud) {
-                                        if (count >= 5) {
-                                            break;
-                                        }
-                                        boolean resolved = (boolean) fraud.get(6);
-                                        if (!resolved) {
-                                            reports.append("• ").append(fraud.get(3)).append(" - ")
-                                                    .append(fraud.get(2)).append(" (ID: ").append(fraud.get(1)).append(")\n");
-                                            count++;
-                                        }
-                                    }
-                                    if (count == 0) {
-                                        reports.append("• No active fraud cases\n");
-                                    }
-                                } else {
-                                    reports.append("No fraud attempts detected.\n");
-                                }
-                            } catch (Exception e) {
-                                reports.append("Error loading fraud data: ").append(e.getMessage()).append("\n");
-                            }
-                        } else {
-                            reports.append("Database connection unavailable\n");
-                        }
-
-                        final String finalReport = reports.toString();
-
-                        SwingUtilities.invokeLater(() -> {
-                            fraudReportsArea.setText(finalReport);
-                        });
-
-                        return null;
-                    }
-
-                    @Override
-                    protected void done() {
-                        try {
-                            get();
-                        } catch (Exception e) {
-                            System.err.println("Auto-refresh error: " + e.getMessage());
-                        }
-                    }
-                };
-
-                worker.execute();
+        autoRefreshJob = AdminScheduler.getInstance().schedule("dashboard-refresh", AUTO_REFRESH_MILLIS, 0, () -> {
+            if (!checkConnectionStatus()) {
+                return true; // Job is cancelled and the user sent back to login
             }
-        }, 0, 30000);
+            return refreshFraudReports();
+        });
     }
 
     public AdminDashboard(Connection connection, AdminLogin loginWindow) {
@@ -153,9 +96,10 @@ public class AdminDashboard extends JFrame {
         setIconImage(icon.getImage());
         initializeUI();
         startAutoRefresh();
-        startConnectionMonitoring();
         initializeLoadingDialog();
         preloadAllData();
+        FingerprintTemplateMigration.startInBackground();
+        VoterSearchIndex.getInstance().warmUp();
     }
 
     private void initializeLoadingDialog() {
@@ -191,54 +135,140 @@ public class AdminDashboard extends JFrame {
     }
 
     private void preloadAllData() {
-        backgroundExecutor.execute(() -> {
-            try {
-                // Preload all ballot types for candidates
-                String[] ballotTypes = {"NationalBallot", "RegionalBallot", "ProvincialBallot"};
-                for (String ballotType : ballotTypes) {
-                    try {
-                        List<Vector<Object>> candidates = AdminDatabaseLogic.getAllCandidatesFromTable(conn, ballotType);
-                        cachedCandidatesByTable.put(ballotType, candidates);
-                        lastCandidateUpdateByTable.put(ballotType, System.currentTimeMillis());
-                    } catch (Exception e) {
-                        System.err.println("Error preloading " + ballotType + ": " + e.getMessage());
-                    }
+        // Each load borrows its own pooled connection so they run side by side
+        for (String ballotType : BALLOT_TABLES) {
+            loadBallot(ballotType).whenComplete((candidates, e) -> {
+                if (e != null) {
+                    System.err.println("Error preloading " + ballotType + ": " + e.getMessage());
                 }
-                
-                // Preload voters data
-                cachedVoters = AdminDatabaseLogic.getAllVoters(conn);
-                lastVoterUpdate = System.currentTimeMillis();
-                
-                // Preload stats data
-                cachedStats = AdminDatabaseLogic.getVoteStatistics(conn);
-                lastStatsUpdate = System.currentTimeMillis();
-                
-            } catch (Exception e) {
-                System.err.println("Error preloading data: " + e.getMessage());
+            });
+        }
+
+        // Preload the first voter page, or reload the pages already scrolled through
+        loadVoterPages().whenComplete((voters, e) -> {
+            if (e != null) {
+                System.err.println("Error preloading voters: " + e.getMessage());
+            }
+        });
+
+        // Preload stats data
+        loadStats().whenComplete((stats, e) -> {
+            if (e != null) {
+                System.err.println("Error preloading stats: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Loads a ballot table into the cache, joining a load of the same table already in flight.
+     */
+    private CompletableFuture<List<Vector<Object>>> loadBallot(String table) {
+        String key = DashboardCache.ballot(table);
+        long version = cache.beginLoad(key);
+        return tableLoads.load(key + "@" + version, () -> {
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                List<Vector<Object>> candidates = AdminDatabaseLogic.getAllCandidatesFromTable(dbConn, table);
+                cache.store(key, version, candidates);
+                return candidates;
+            }
+        });
+    }
+
+    /**
+     * Reloads the voter pages already in the cache (just the first page when there are none),
+     * so a refresh keeps the rows the user has already scrolled through.
+     */
+    private CompletableFuture<VoterSnapshot> loadVoterPages() {
+        VoterSnapshot loaded = cachedVoters();
+        return loadVoterPages(loaded.isEmpty() ? null : loaded.getIdNumber(loaded.size() - 1));
+    }
+
+    /**
+     * Reloads every voter page up to and including throughId (just the first page when null),
+     * joining a load of the same pages already in flight.
+     */
+    private CompletableFuture<VoterSnapshot> loadVoterPages(String throughId) {
+        long version = cache.beginLoad(DashboardCache.VOTERS);
+        // A load through fewer pages must not stand in for this one
+        return voterLoads.load(DashboardCache.VOTERS + "@" + version + "@" + throughId, () -> {
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                VoterSnapshot voters = AdminDatabaseLogic.getVoterSnapshotPage(dbConn, null, AdminDatabaseLogic.VOTER_PAGE_SIZE);
+                VoterSnapshot page = voters;
+                while (throughId != null && page.size() == AdminDatabaseLogic.VOTER_PAGE_SIZE
+                        && page.getIdNumber(page.size() - 1).compareTo(throughId) < 0) {
+                    page = AdminDatabaseLogic.getVoterSnapshotPage(dbConn,
+                            page.getIdNumber(page.size() - 1), AdminDatabaseLogic.VOTER_PAGE_SIZE);
+                    voters.appendAll(page);
+                }
+                if (cache.store(DashboardCache.VOTERS, version, voters)) {
+                    voterPagesExhausted = page.size() < AdminDatabaseLogic.VOTER_PAGE_SIZE;
+                }
+                return voters;
             }
         });
     }
 
-    private void invalidateCache() {
-        cachedCandidatesByTable.clear();
-        lastCandidateUpdateByTable.clear();
-        cachedVoters.clear();
-        cachedStats.clear();
-        preloadAllData(); // Reload data after invalidation
+    /**
+     * Loads the statistics table and hourly vote rate, joining a load already in flight.
+     */
+    private CompletableFuture<List<Vector<Object>>> loadStats() {
+        long version = cache.beginLoad(DashboardCache.STATS);
+        return tableLoads.load(DashboardCache.STATS + "@" + version, () -> {
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                List<Vector<Object>> stats = AdminDatabaseLogic.getVoteStatistics(dbConn);
+                VoteRate.getInstance().refresh(dbConn);
+                cache.store(DashboardCache.STATS, version, stats);
+                return stats;
+            }
+        });
     }
 
-    private void startConnectionMonitoring() {
-        connectionMonitorTimer = new Timer(true);
-        connectionMonitorTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                checkConnectionStatus();
+    /**
+     * Hands a background reload of a stale panel to onLoaded on the EDT; failures are only
+     * logged since the panel is already showing the cached data.
+     */
+    private <T> void revalidate(DashboardCache.Policy policy, DashboardCache.Entry<?> stale,
+            CompletableFuture<T> reload, Consumer<T> onLoaded) {
+        System.out.println("♻️ Serving " + (stale.getAgeMillis() / 1000) + " s old data, refreshing in background ("
+                + policy.describe() + "; tables: " + tableLoads.describe() + "; voters: " + voterLoads.describe() + ")");
+        reload.whenComplete((value, e) -> SwingUtilities.invokeLater(() -> {
+            if (e != null) {
+                System.err.println("Background refresh failed: " + e.getMessage());
+            } else {
+                onLoaded.accept(value);
             }
-        }, 30000, 30000);
+        }));
+    }
+
+    private static Exception asException(Throwable error) {
+        return error instanceof Exception ? (Exception) error : new RuntimeException(error);
     }
 
-    private void checkConnectionStatus() {
+    /**
+     * Drops every ballot's cached candidates, e.g. after a change that may touch several ballots.
+     */
+    private void invalidateBallots() {
+        for (String ballotType : BALLOT_TABLES) {
+            cache.invalidate(DashboardCache.ballot(ballotType));
+        }
+    }
+
+    /**
+     * The cached voter snapshot, or an empty one if voters are not cached.
+     */
+    private VoterSnapshot cachedVoters() {
+        DashboardCache.Entry<VoterSnapshot> entry = cache.get(DashboardCache.VOTERS);
+        return entry == null ? new VoterSnapshot() : entry.getValue();
+    }
+
+    /**
+     * Returns false, and sends the user back to login, if the connection has been lost.
+     */
+    private boolean checkConnectionStatus() {
         if (AdminDatabaseConnectivity.shouldRedirectToLogin()) {
+            if (autoRefreshJob != null) {
+                autoRefreshJob.cancel();
+            }
             SwingUtilities.invokeLater(() -> {
                 JOptionPane.showMessageDialog(AdminDashboard.this,
                         "Database connection lost. You will be redirected to login.",
@@ -246,15 +276,14 @@ public class AdminDashboard extends JFrame {
                         JOptionPane.WARNING_MESSAGE);
                 redirectToLogin();
             });
+            return false;
         }
+        return true;
     }
 
     private void redirectToLogin() {
-        if (connectionMonitorTimer != null) {
-            connectionMonitorTimer.cancel();
-        }
-        if (autoRefreshTimer != null) {
-            autoRefreshTimer.cancel();
+        if (autoRefreshJob != null) {
+            autoRefreshJob.cancel();
         }
         backgroundExecutor.shutdown();
 
@@ -449,11 +478,8 @@ public class AdminDashboard extends JFrame {
                     JOptionPane.QUESTION_MESSAGE);
 
             if (confirm == JOptionPane.YES_OPTION) {
-                if (connectionMonitorTimer != null) {
-                    connectionMonitorTimer.cancel();
-                }
-                if (autoRefreshTimer != null) {
-                    autoRefreshTimer.cancel();
+                if (autoRefreshJob != null) {
+                    autoRefreshJob.cancel();
                 }
                 backgroundExecutor.shutdown();
 
@@ -485,24 +511,29 @@ public class AdminDashboard extends JFrame {
         return fraudPanel;
     }
 
-    private void refreshFraudReports() {
+    /**
+     * Rebuilds the fraud report text. Returns false if the data could not be loaded.
+     */
+    private boolean refreshFraudReports() {
+        boolean refreshed = true;
         StringBuilder reports = new StringBuilder();
         reports.append("======= Real-time Fraud Detection =======\n");
         reports.append("Last Updated: ").append(new java.util.Date()).append("\n\n");
 
         if (conn != null) {
-            try {
-                Vector<Object> stats = AdminDatabaseLogic.getVotingStatisticsSummary(conn);
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                Vector<Object> stats = AdminDatabaseLogic.getVotingStatisticsSummary(dbConn);
                 if (stats.size() >= 5) {
                     reports.append("VOTING STATISTICS:\n");
                     reports.append("• Total Voters: ").append(stats.get(0)).append("\n");
                     reports.append("• Total Votes: ").append(stats.get(1)).append("\n");
                     reports.append("• Votes Today: ").append(stats.get(2)).append("\n");
                     reports.append("• Total Casted Ballots: ").append(stats.get(3)).append("\n");
-                    reports.append("• Active Fraud Cases: ").append(stats.get(4)).append("\n\n");
+                    reports.append("• Active Fraud Cases: ").append(stats.get(4)).append("\n");
+                    reports.append("• Refreshed in: ").append(VotingSummaryEngine.getInstance().getLastLatencyMillis()).append(" ms\n\n");
                 }
 
-                List<Vector<Object>> recentFraud = AdminDatabaseLogic.getFraudAttempts(conn);
+                List<Vector<Object>> recentFraud = AdminDatabaseLogic.getFraudAttempts(dbConn);
                 if (!recentFraud.isEmpty()) {
                     reports.append("RECENT FRAUD ATTEMPTS:\n");
                     int count = 0;
@@ -525,15 +556,18 @@ public class AdminDashboard extends JFrame {
                 }
             } catch (Exception e) {
                 reports.append("Error loading fraud data: ").append(e.getMessage()).append("\n");
+                refreshed = false;
             }
         } else {
             reports.append("Database connection unavailable\n");
+            refreshed = false;
         }
 
         final String finalReport = reports.toString();
         SwingUtilities.invokeLater(() -> {
             fraudReportsArea.setText(finalReport);
         });
+        return refreshed;
     }
 
     public void setAdminInfo(String name, String surname) {
@@ -594,11 +628,13 @@ public class AdminDashboard extends JFrame {
         JButton clearSearchBtn = createActionButton("Clear", new Color(120, 120, 120));
         JButton allCandidatesBtn = createActionButton("Show All Ballots", new Color(0, 87, 183));
 
-        searchBtn.addActionListener(e -> searchCandidatesAsync());
+        searchBtn.addActionListener(e -> searchCandidatesAsync(true));
         clearSearchBtn.addActionListener(e -> {
             candidateSearchField.setText("");
+            candidateSearch.cancelPending();
             loadCandidatesAsync();
         });
+        candidateSearch.attach(candidateSearchField, () -> searchCandidatesAsync(false));
         allCandidatesBtn.addActionListener(e -> searchAllCandidatesAsync());
 
         JPanel searchButtonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
@@ -625,12 +661,7 @@ public class AdminDashboard extends JFrame {
         panel.add(topPanel, BorderLayout.NORTH);
 
         String[] columns = {"Party", "Candidate", "Number of Votes"};
-        candidateModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 0 || column == 1;
-            }
-        };
+        candidateModel = new LazyTableModel(columns, 0, 1);
         candidateTable = new JTable(candidateModel);
         candidateTable.setRowHeight(32);
         candidateTable.setFont(new Font("Segoe UI", Font.PLAIN, 13));
@@ -671,9 +702,13 @@ public class AdminDashboard extends JFrame {
                     final int finalColumn = column;
 
                     backgroundExecutor.execute(() -> {
-                        try {
-                            AdminDatabaseLogic.updateCandidate(conn, finalCurrentTable, finalColumn, finalNewValue, finalOldParty, finalOldCandidate, finalRegionOrProvince);
-                            invalidateCache(); // Reload data after update
+                        try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                            AdminDatabaseLogic.updateCandidate(dbConn, finalCurrentTable, finalColumn, finalNewValue, finalOldParty, finalOldCandidate, finalRegionOrProvince);
+                            // Only this ballot's rows changed; a party rename also changes the stats panel
+                            cache.invalidate(DashboardCache.ballot(finalCurrentTable));
+                            if (finalColumn == 0) {
+                                cache.invalidate(DashboardCache.STATS);
+                            }
                         } catch (Exception ex) {
                             SwingUtilities.invokeLater(() -> handleDatabaseError(ex));
                         }
@@ -700,7 +735,7 @@ public class AdminDashboard extends JFrame {
             if (!checkConnectionBeforeOperation()) {
                 return;
             }
-            invalidateCache();
+            cache.invalidate(DashboardCache.ballot(currentTable));
             loadCandidatesAsync();
         });
         deleteBtn.addActionListener(e -> {
@@ -761,6 +796,7 @@ public class AdminDashboard extends JFrame {
         final List<Vector<Object>> candidates = new ArrayList<>();
         try {
             List<Vector<Object>> tempCandidates = AdminDatabaseLogic.getAllCandidatesFromTable(conn, currentTable);
+            AdminDatabaseConnectivity.markConnectionUsed(conn);
             candidates.addAll(tempCandidates);
         } catch (Exception e) {
             handleDatabaseError(e);
@@ -894,9 +930,9 @@ public class AdminDashboard extends JFrame {
                         byte[] candidateImageData = java.nio.file.Files.readAllBytes(file.toPath());
 
                         backgroundExecutor.execute(() -> {
-                            try {
+                            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
                                 boolean success = AdminDatabaseLogic.updateCandidateImage(
-                                        conn,
+                                        dbConn,
                                         finalCurrentTable,
                                         finalPartyName,
                                         finalCandidateName,
@@ -910,7 +946,6 @@ public class AdminDashboard extends JFrame {
                                                 "Candidate image updated successfully for " + finalCandidateName + "!",
                                                 "Success",
                                                 JOptionPane.INFORMATION_MESSAGE);
-                                        invalidateCache(); // Reload data after update
                                         dialog.dispose();
                                     } else {
                                         JOptionPane.showMessageDialog(dialog,
@@ -983,18 +1018,16 @@ public class AdminDashboard extends JFrame {
 
         showLoading();
         backgroundExecutor.execute(() -> {
-            try {
-                List<Vector<Object>> candidates = AdminDatabaseLogic.searchCandidates(conn, searchTerm);
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                List<Vector<Object>> candidates = AdminDatabaseLogic.searchCandidates(dbConn, searchTerm);
                 SwingUtilities.invokeLater(() -> {
                     hideLoading();
-                    candidateModel.setRowCount(0);
                     if (candidates.isEmpty()) {
+                        candidateModel.clear();
                         JOptionPane.showMessageDialog(AdminDashboard.this, "No candidates found matching: " + searchTerm);
                     } else {
-                        candidateModel.setColumnIdentifiers(new String[]{"Party", "Candidate", "Ballot Type", "Votes"});
-                        for (Vector<Object> row : candidates) {
-                            candidateModel.addRow(row);
-                        }
+                        candidateModel.setColumnNames(new String[]{"Party", "Candidate", "Ballot Type", "Votes"});
+                        candidateModel.setRows(candidates);
                     }
                 });
             } catch (Exception e) {
@@ -1006,9 +1039,10 @@ public class AdminDashboard extends JFrame {
         });
     }
 
-    private void searchCandidatesAsync() {
+    private void searchCandidatesAsync(boolean interactive) {
         String searchTerm = candidateSearchField.getText().trim();
         if (searchTerm.isEmpty()) {
+            candidateSearch.cancelPending();
             loadCandidatesAsync();
             return;
         }
@@ -1017,121 +1051,40 @@ public class AdminDashboard extends JFrame {
             return;
         }
 
-        showLoading();
-        backgroundExecutor.execute(() -> {
-            try {
-                List<Vector<Object>> filteredCandidates = new ArrayList<>();
-                String lowerSearch = searchTerm.toLowerCase();
-
-                if (currentTable.equals("NationalBallot")) {
-                    String sql = "SELECT nb.party_name, nb.candidate_name, COALESCE(v.vote_count, 0) as votes "
-                            + "FROM NationalBallot nb "
-                            + "LEFT JOIN (SELECT party_name, COUNT(DISTINCT voter_id_number) as vote_count FROM Votes WHERE category='National' GROUP BY party_name) v "
-                            + "ON nb.party_name = v.party_name "
-                            + "WHERE LOWER(nb.party_name) LIKE ? OR LOWER(nb.candidate_name) LIKE ?";
-
-                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                        String searchPattern = "%" + lowerSearch + "%";
-                        stmt.setString(1, searchPattern);
-                        stmt.setString(2, searchPattern);
-
-                        try (ResultSet rs = stmt.executeQuery()) {
-                            while (rs.next()) {
-                                Vector<Object> row = new Vector<>();
-                                row.add(rs.getString("party_name"));
-                                row.add(rs.getString("candidate_name"));
-                                row.add(rs.getInt("votes"));
-                                filteredCandidates.add(row);
-                            }
-                        }
-                    }
-
-                } else if (currentTable.equals("RegionalBallot")) {
-                    String sql = "SELECT rb.party_name, rb.candidate_name, rb.region, COALESCE(v.vote_count, 0) as votes "
-                            + "FROM RegionalBallot rb "
-                            + "LEFT JOIN (SELECT party_name, COUNT(DISTINCT voter_id_number) as vote_count FROM Votes WHERE category='Regional' GROUP BY party_name) v "
-                            + "ON rb.party_name = v.party_name "
-                            + "WHERE LOWER(rb.party_name) LIKE ? OR LOWER(rb.candidate_name) LIKE ? OR LOWER(rb.region) LIKE ?";
-
-                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                        String searchPattern = "%" + lowerSearch + "%";
-                        stmt.setString(1, searchPattern);
-                        stmt.setString(2, searchPattern);
-                        stmt.setString(3, searchPattern);
-
-                        try (ResultSet rs = stmt.executeQuery()) {
-                            while (rs.next()) {
-                                Vector<Object> row = new Vector<>();
-                                row.add(rs.getString("party_name"));
-                                row.add(rs.getString("candidate_name"));
-                                row.add(rs.getString("region"));
-                                row.add(rs.getInt("votes"));
-                                filteredCandidates.add(row);
-                            }
-                        }
-                    }
-
-                } else if (currentTable.equals("ProvincialBallot")) {
-                    String sql = "SELECT pb.party_name, pb.candidate_name, pb.province, COALESCE(v.vote_count, 0) as votes "
-                            + "FROM ProvincialBallot pb "
-                            + "LEFT JOIN (SELECT party_name, COUNT(DISTINCT voter_id_number) as vote_count FROM Votes WHERE category='Provincial' GROUP BY party_name) v "
-                            + "ON pb.party_name = v.party_name "
-                            + "WHERE LOWER(pb.party_name) LIKE ? OR LOWER(pb.candidate_name) LIKE ? OR LOWER(pb.province) LIKE ?";
-
-                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                        String searchPattern = "%" + lowerSearch + "%";
-                        stmt.setString(1, searchPattern);
-                        stmt.setString(2, searchPattern);
-                        stmt.setString(3, searchPattern);
-
-                        try (ResultSet rs = stmt.executeQuery()) {
-                            while (rs.next()) {
-                                Vector<Object> row = new Vector<>();
-                                row.add(rs.getString("party_name"));
-                                row.add(rs.getString("candidate_name"));
-                                row.add(rs.getString("province"));
-                                row.add(rs.getInt("votes"));
-                                filteredCandidates.add(row);
-                            }
-                        }
-                    }
+        candidateSearch.submit(request -> {
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                return AdminDatabaseLogic.searchBallot(request.track(dbConn), currentTable, searchTerm);
+            }
+        }, filteredCandidates -> {
+            if (filteredCandidates.isEmpty()) {
+                candidateModel.clear();
+                if (interactive) {
+                    JOptionPane.showMessageDialog(AdminDashboard.this, "No candidates found in " + currentTable.replace("Ballot", "") + " ballot matching: " + searchTerm);
+                }
+            } else {
+                String[] columnNames;
+                switch (currentTable) {
+                    case "NationalBallot":
+                        columnNames = new String[]{"Party", "Candidate", "National Votes"};
+                        break;
+                    case "RegionalBallot":
+                        columnNames = new String[]{"Party", "Candidate", "Region", "Regional Votes"};
+                        break;
+                    case "ProvincialBallot":
+                        columnNames = new String[]{"Party", "Candidate", "Province", "Provincial Votes"};
+                        break;
+                    default:
+                        columnNames = new String[]{"Party", "Candidate", "Number of Votes"};
                 }
 
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    candidateModel.setRowCount(0);
-                    if (filteredCandidates.isEmpty()) {
-                        JOptionPane.showMessageDialog(AdminDashboard.this, "No candidates found in " + currentTable.replace("Ballot", "") + " ballot matching: " + searchTerm);
-                    } else {
-                        String[] columnNames;
-                        switch (currentTable) {
-                            case "NationalBallot":
-                                columnNames = new String[]{"Party", "Candidate", "National Votes"};
-                                break;
-                            case "RegionalBallot":
-                                columnNames = new String[]{"Party", "Candidate", "Region", "Regional Votes"};
-                                break;
-                            case "ProvincialBallot":
-                                columnNames = new String[]{"Party", "Candidate", "Province", "Provincial Votes"};
-                                break;
-                            default:
-                                columnNames = new String[]{"Party", "Candidate", "Number of Votes"};
-                        }
-
-                        candidateModel.setColumnIdentifiers(columnNames);
-
-                        for (Vector<Object> row : filteredCandidates) {
-                            candidateModel.addRow(row);
-                        }
-                    }
-                });
-            } catch (Exception e) {
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    handleDatabaseError(e);
-                });
+                candidateModel.setColumnNames(columnNames);
+                candidateModel.setRows(filteredCandidates);
             }
-        });
+        }, this::handleDatabaseError, this::hideLoading);
+        // Shown after submitting so hiding a superseded search's dialog can't hide this one
+        if (interactive) {
+            showLoading();
+        }
     }
 
     private void addCategoryTab(String tableName) {
@@ -1148,6 +1101,7 @@ public class AdminDashboard extends JFrame {
 
         tab.addActionListener(e -> {
             currentTable = tableName;
+            candidateSearch.cancelPending();
             highlightActiveTab(tab);
             if (!checkConnectionBeforeOperation()) {
                 return;
@@ -1191,40 +1145,34 @@ public class AdminDashboard extends JFrame {
             return;
         }
 
-        // Check cache first for the current table
-        long currentTime = System.currentTimeMillis();
-        List<Vector<Object>> cachedCandidates = cachedCandidatesByTable.get(currentTable);
-        Long lastUpdate = lastCandidateUpdateByTable.get(currentTable);
-        
-        if (cachedCandidates != null && lastUpdate != null && (currentTime - lastUpdate) < CACHE_TIMEOUT) {
-            updateCandidateTable(cachedCandidates);
+        // Serve the current table from cache when possible, reloading it behind the scenes if stale
+        String table = currentTable;
+        DashboardCache.Entry<List<Vector<Object>>> cached = cache.get(DashboardCache.ballot(table));
+        DashboardCache.Freshness freshness = candidatePolicy.classify(cached);
+        if (freshness != DashboardCache.Freshness.MISS) {
+            updateCandidateTable(cached.getValue());
+            if (freshness == DashboardCache.Freshness.STALE) {
+                revalidate(candidatePolicy, cached, loadBallot(table), candidates -> {
+                    if (table.equals(currentTable) && candidateSearchField.getText().trim().isEmpty()) {
+                        updateCandidateTable(candidates);
+                    }
+                });
+            }
             return;
         }
 
         showLoading();
-        backgroundExecutor.execute(() -> {
-            try {
-                List<Vector<Object>> candidates = AdminDatabaseLogic.getAllCandidatesFromTable(conn, currentTable);
-                // Update cache for this specific table
-                cachedCandidatesByTable.put(currentTable, candidates);
-                lastCandidateUpdateByTable.put(currentTable, System.currentTimeMillis());
-                
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    updateCandidateTable(candidates);
-                });
-            } catch (Exception e) {
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    handleDatabaseError(e);
-                });
+        loadBallot(table).whenComplete((candidates, e) -> SwingUtilities.invokeLater(() -> {
+            hideLoading();
+            if (e != null) {
+                handleDatabaseError(asException(e));
+            } else {
+                updateCandidateTable(candidates);
             }
-        });
+        }));
     }
     
     private void updateCandidateTable(List<Vector<Object>> candidates) {
-        candidateModel.setRowCount(0);
-        
         // Set appropriate column headers based on current table
         String[] columnNames;
         switch (currentTable) {
@@ -1241,11 +1189,8 @@ public class AdminDashboard extends JFrame {
                 columnNames = new String[]{"Party", "Candidate", "Number of Votes"};
         }
         
-        candidateModel.setColumnIdentifiers(columnNames);
-        
-        for (Vector<Object> row : candidates) {
-            candidateModel.addRow(row);
-        }
+        candidateModel.setColumnNames(columnNames);
+        candidateModel.updateRows(candidates);
     }
 
     private void addCandidate() {
@@ -1538,9 +1483,9 @@ public class AdminDashboard extends JFrame {
 
             showLoading();
             backgroundExecutor.execute(() -> {
-                try {
+                try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
                     boolean added = AdminDatabaseLogic.addCandidateToBallots(
-                            conn,
+                            dbConn,
                             finalPartyName,
                             finalCandidateName,
                             finalNationalSelected,
@@ -1555,7 +1500,8 @@ public class AdminDashboard extends JFrame {
                     SwingUtilities.invokeLater(() -> {
                         hideLoading();
                         if (added) {
-                            invalidateCache(); // Reload data after adding
+                            invalidateBallots(); // A candidate can be added to several ballots
+                            cache.invalidate(DashboardCache.STATS);
                             loadCandidatesAsync();
                         }
                     });
@@ -1612,12 +1558,13 @@ public class AdminDashboard extends JFrame {
         if (confirm == JOptionPane.YES_OPTION) {
             showLoading();
             backgroundExecutor.execute(() -> {
-                try {
-                    boolean deleted = AdminDatabaseLogic.deleteCandidateFromTable(conn, currentTable, partyName, candidateName);
+                try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                    boolean deleted = AdminDatabaseLogic.deleteCandidateFromTable(dbConn, currentTable, partyName, candidateName);
                     SwingUtilities.invokeLater(() -> {
                         hideLoading();
                         if (deleted) {
-                            invalidateCache(); // Reload data after deletion
+                            // Deleting a candidate also deletes the party's votes in that category
+                            cache.invalidate(DashboardCache.ballot(currentTable), DashboardCache.STATS);
                             loadCandidatesAsync();
                         }
                     });
@@ -1647,7 +1594,8 @@ public class AdminDashboard extends JFrame {
         searchLabel.setFont(new Font("Segoe UI", Font.BOLD, 12));
         voterSearchField = new JTextField(25);
         voterSearchField.setFont(new Font("Segoe UI", Font.PLAIN, 12));
-        voterSearchField.setToolTipText("Search by name, surname, ID number, voting status. Examples: 'John', '990101', 'voted', 'not voted'");
+        voterSearchField.setToolTipText("<html>Search by name, surname, ID number or voting status. Examples: 'John', '990101', 'voted', 'not voted'<br>"
+                + "Filters: id:900101*, name:thabo, surname:*merwe*, voted:true, fingerprint:missing</html>");
         voterSearchField.setBorder(BorderFactory.createCompoundBorder(
                 BorderFactory.createLineBorder(new Color(200, 200, 200)),
                 BorderFactory.createEmptyBorder(5, 8, 5, 8)
@@ -1656,11 +1604,13 @@ public class AdminDashboard extends JFrame {
         JButton searchBtn = createActionButton("Search", new Color(0, 87, 183));
         JButton clearSearchBtn = createActionButton("Clear", new Color(120, 120, 120));
 
-        searchBtn.addActionListener(e -> searchVotersAsync());
+        searchBtn.addActionListener(e -> searchVotersAsync(true));
         clearSearchBtn.addActionListener(e -> {
             voterSearchField.setText("");
+            voterSearch.cancelPending();
             loadVotersAsync();
         });
+        voterSearch.attach(voterSearchField, () -> searchVotersAsync(false));
 
         JPanel searchButtonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
         searchButtonPanel.setBackground(new Color(248, 248, 248));
@@ -1674,12 +1624,7 @@ public class AdminDashboard extends JFrame {
         panel.add(searchPanel, BorderLayout.NORTH);
 
         String[] columns = {"Name", "Surname", "ID Number", "Fingerprint", "Has Voted"};
-        voterModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 0 || column == 1;
-            }
-        };
+        voterModel = new LazyTableModel(columns, 0, 1);
         voterTable = new JTable(voterModel);
         voterTable.setRowHeight(32);
         voterTable.setFont(new Font("Segoe UI", Font.PLAIN, 13));
@@ -1691,6 +1636,14 @@ public class AdminDashboard extends JFrame {
         scrollPane.setBorder(BorderFactory.createLineBorder(new Color(220, 220, 220)));
         panel.add(scrollPane, BorderLayout.CENTER);
 
+        JScrollBar voterScrollBar = scrollPane.getVerticalScrollBar();
+        voterScrollBar.addAdjustmentListener(e -> {
+            int remaining = voterScrollBar.getMaximum() - (voterScrollBar.getValue() + voterScrollBar.getVisibleAmount());
+            if (remaining <= voterTable.getRowHeight() * VOTER_PREFETCH_ROWS) {
+                loadNextVoterPage();
+            }
+        });
+
         voterModel.addTableModelListener(e -> {
             if (e.getType() == TableModelEvent.UPDATE && conn != null) {
                 if (!checkConnectionBeforeOperation()) {
@@ -1708,9 +1661,19 @@ public class AdminDashboard extends JFrame {
                     final int finalColumn = column;
                     
                     backgroundExecutor.execute(() -> {
-                        try {
-                            AdminDatabaseLogic.updateVoter(conn, finalIdNumber, finalColumn, finalNewValue);
-                            invalidateCache(); // Reload data after update
+                        try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                            AdminDatabaseLogic.updateVoter(dbConn, finalIdNumber, finalColumn, finalNewValue);
+                            // Patch the one cached row; the table already shows the edit
+                            cache.<VoterSnapshot>patch(DashboardCache.VOTERS, voters -> {
+                                int index = voters.indexOf(finalIdNumber);
+                                if (index >= 0) {
+                                    if (finalColumn == 0) {
+                                        voters.setName(index, finalNewValue);
+                                    } else {
+                                        voters.setSurname(index, finalNewValue);
+                                    }
+                                }
+                            });
                         } catch (Exception ex) {
                             SwingUtilities.invokeLater(() -> handleDatabaseError(ex));
                         }
@@ -1732,14 +1695,13 @@ public class AdminDashboard extends JFrame {
             }
             try {
                 ReaderCollection collection = UareUGlobal.GetReaderCollection();
-                collection.GetReaders();
-                Reader reader = collection.size() > 0 ? collection.get(0) : null;
+                Reader reader = Selection.Select(collection);
                 if (reader == null) {
                     JOptionPane.showMessageDialog(this, "No fingerprint reader found!");
                     return;
                 }
                 AddVoters.Run(reader, conn);
-                invalidateCache(); // Reload data after adding voter
+                cache.invalidate(DashboardCache.VOTERS);
                 loadVotersAsync();
                 UareUGlobal.DestroyReaderCollection();
             } catch (UareUException ex) {
@@ -1753,7 +1715,7 @@ public class AdminDashboard extends JFrame {
             if (!checkConnectionBeforeOperation()) {
                 return;
             }
-            invalidateCache();
+            cache.invalidate(DashboardCache.VOTERS);
             loadVotersAsync();
         });
 
@@ -1772,39 +1734,57 @@ public class AdminDashboard extends JFrame {
         return panel;
     }
 
-    private void searchVotersAsync() {
+    private void searchVotersAsync(boolean interactive) {
         String searchTerm = voterSearchField.getText().trim();
         if (searchTerm.isEmpty()) {
+            voterSearch.cancelPending();
             loadVotersAsync();
             return;
         }
 
+        VoterQuery query;
+        try {
+            query = VoterQuery.parse(searchTerm);
+        } catch (IllegalArgumentException e) {
+            // Half-typed filters are expected while typing; only complain on an explicit search
+            if (interactive) {
+                JOptionPane.showMessageDialog(this, e.getMessage(), "Invalid Search", JOptionPane.WARNING_MESSAGE);
+            }
+            return;
+        }
+
+        // Answer from the in-memory index once it has loaded; no DB round trip needed
+        VoterSearchIndex searchIndex = VoterSearchIndex.getInstance();
+        if (searchIndex.canAnswer(query)) {
+            voterSearch.begin();
+            voterSearchActive = true;
+            VoterSnapshot voters = searchIndex.search(query);
+            voterModel.setRows(voters);
+            if (voters.isEmpty() && interactive) {
+                JOptionPane.showMessageDialog(AdminDashboard.this, "No voters found matching: " + searchTerm);
+            }
+            return;
+        }
+
         if (!checkConnectionBeforeOperation()) {
             return;
         }
 
-        showLoading();
-        backgroundExecutor.execute(() -> {
-            try {
-                List<Vector<Object>> voters = AdminDatabaseLogic.searchVoters(conn, searchTerm);
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    voterModel.setRowCount(0);
-                    if (voters.isEmpty()) {
-                        JOptionPane.showMessageDialog(AdminDashboard.this, "No voters found matching: " + searchTerm);
-                    } else {
-                        for (Vector<Object> row : voters) {
-                            voterModel.addRow(row);
-                        }
-                    }
-                });
-            } catch (Exception e) {
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    handleDatabaseError(e);
-                });
+        voterSearchActive = true;
+        voterSearch.submit(request -> {
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                return AdminDatabaseLogic.searchVoters(request.track(dbConn), query);
             }
-        });
+        }, voters -> {
+            voterModel.setRows(voters);
+            if (voters.isEmpty() && interactive) {
+                JOptionPane.showMessageDialog(AdminDashboard.this, "No voters found matching: " + searchTerm);
+            }
+        }, this::handleDatabaseError, this::hideLoading);
+        // Shown after submitting so hiding a superseded search's dialog can't hide this one
+        if (interactive) {
+            showLoading();
+        }
     }
 
     private JPanel createStatsPanel() {
@@ -1832,11 +1812,13 @@ public class AdminDashboard extends JFrame {
         JButton searchBtn = createActionButton("Search", new Color(0, 87, 183));
         JButton clearSearchBtn = createActionButton("Clear", new Color(120, 120, 120));
 
-        searchBtn.addActionListener(e -> searchStatsAsync());
+        searchBtn.addActionListener(e -> searchStatsAsync(true));
         clearSearchBtn.addActionListener(e -> {
             statsSearchField.setText("");
+            statsSearch.cancelPending();
             loadStatsAsync();
         });
+        statsSearch.attach(statsSearchField, () -> searchStatsAsync(false));
 
         JPanel searchButtonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
         searchButtonPanel.setBackground(new Color(248, 248, 248));
@@ -1850,12 +1832,7 @@ public class AdminDashboard extends JFrame {
         panel.add(searchPanel, BorderLayout.NORTH);
 
         String[] columns = {"Party", "Total Votes", "Votes Today"};
-        statsModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int r, int c) {
-                return false;
-            }
-        };
+        statsModel = new LazyTableModel(columns);
         statsTable = new JTable(statsModel);
         statsTable.setRowHeight(32);
         statsTable.setFont(new Font("Segoe UI", Font.PLAIN, 13));
@@ -1872,21 +1849,31 @@ public class AdminDashboard extends JFrame {
             if (!checkConnectionBeforeOperation()) {
                 return;
             }
-            invalidateCache();
+            cache.invalidate(DashboardCache.STATS);
             loadStatsAsync();
         });
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 10));
         buttonPanel.setBackground(Color.WHITE);
         buttonPanel.add(refreshBtn);
-        panel.add(buttonPanel, BorderLayout.SOUTH);
+
+        voteRateLabel = new JLabel("Votes per hour: loading...");
+        voteRateLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        voteRateLabel.setBorder(BorderFactory.createEmptyBorder(5, 5, 0, 5));
+
+        JPanel southPanel = new JPanel(new BorderLayout());
+        southPanel.setBackground(Color.WHITE);
+        southPanel.add(voteRateLabel, BorderLayout.NORTH);
+        southPanel.add(buttonPanel, BorderLayout.SOUTH);
+        panel.add(southPanel, BorderLayout.SOUTH);
 
         return panel;
     }
 
-    private void searchStatsAsync() {
+    private void searchStatsAsync(boolean interactive) {
         String searchTerm = statsSearchField.getText().trim();
         if (searchTerm.isEmpty()) {
+            statsSearch.cancelPending();
             loadStatsAsync();
             return;
         }
@@ -1895,10 +1882,9 @@ public class AdminDashboard extends JFrame {
             return;
         }
 
-        showLoading();
-        backgroundExecutor.execute(() -> {
-            try {
-                List<Vector<Object>> allStats = AdminDatabaseLogic.getVoteStatistics(conn);
+        statsSearch.submit(request -> {
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                List<Vector<Object>> allStats = AdminDatabaseLogic.getVoteStatistics(request.track(dbConn));
                 List<Vector<Object>> filteredStats = new ArrayList<>();
 
                 String lowerSearch = searchTerm.toLowerCase();
@@ -1908,25 +1894,18 @@ public class AdminDashboard extends JFrame {
                         filteredStats.add(row);
                     }
                 }
-
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    statsModel.setRowCount(0);
-                    if (filteredStats.isEmpty()) {
-                        JOptionPane.showMessageDialog(AdminDashboard.this, "No statistics found for keyword: " + searchTerm);
-                    } else {
-                        for (Vector<Object> row : filteredStats) {
-                            statsModel.addRow(row);
-                        }
-                    }
-                });
-            } catch (Exception e) {
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    handleDatabaseError(e);
-                });
+                return filteredStats;
             }
-        });
+        }, filteredStats -> {
+            statsModel.setRows(filteredStats);
+            if (filteredStats.isEmpty() && interactive) {
+                JOptionPane.showMessageDialog(AdminDashboard.this, "No statistics found for keyword: " + searchTerm);
+            }
+        }, this::handleDatabaseError, this::hideLoading);
+        // Shown after submitting so hiding a superseded search's dialog can't hide this one
+        if (interactive) {
+            showLoading();
+        }
     }
 
     private void loadStatsAsync() {
@@ -1934,38 +1913,35 @@ public class AdminDashboard extends JFrame {
             return;
         }
 
-        // Check cache first
-        long currentTime = System.currentTimeMillis();
-        if (!cachedStats.isEmpty() && (currentTime - lastStatsUpdate) < CACHE_TIMEOUT) {
-            updateStatsTableFromCache();
+        // Serve from cache when possible, reloading behind the scenes if stale
+        DashboardCache.Entry<List<Vector<Object>>> cached = cache.get(DashboardCache.STATS);
+        DashboardCache.Freshness freshness = statsPolicy.classify(cached);
+        if (freshness != DashboardCache.Freshness.MISS) {
+            updateStatsTable(cached.getValue());
+            if (freshness == DashboardCache.Freshness.STALE) {
+                revalidate(statsPolicy, cached, loadStats(), stats -> {
+                    if (statsSearchField.getText().trim().isEmpty()) {
+                        updateStatsTable(stats);
+                    }
+                });
+            }
             return;
         }
 
         showLoading();
-        backgroundExecutor.execute(() -> {
-            try {
-                List<Vector<Object>> stats = AdminDatabaseLogic.getVoteStatistics(conn);
-                cachedStats = stats;
-                lastStatsUpdate = System.currentTimeMillis();
-                
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    updateStatsTableFromCache();
-                });
-            } catch (Exception e) {
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    handleDatabaseError(e);
-                });
+        loadStats().whenComplete((stats, e) -> SwingUtilities.invokeLater(() -> {
+            hideLoading();
+            if (e != null) {
+                handleDatabaseError(asException(e));
+            } else {
+                updateStatsTable(stats);
             }
-        });
+        }));
     }
     
-    private void updateStatsTableFromCache() {
-        statsModel.setRowCount(0);
-        for (Vector<Object> row : cachedStats) {
-            statsModel.addRow(row);
-        }
+    private void updateStatsTable(List<Vector<Object>> stats) {
+        statsModel.updateRows(stats);
+        voteRateLabel.setText("Votes per hour today: " + VoteRate.getInstance().describe());
     }
 
     private void loadVotersAsync() {
@@ -1973,38 +1949,72 @@ public class AdminDashboard extends JFrame {
             return;
         }
 
-        // Check cache first
-        long currentTime = System.currentTimeMillis();
-        if (!cachedVoters.isEmpty() && (currentTime - lastVoterUpdate) < CACHE_TIMEOUT) {
+        voterSearchActive = false;
+
+        // Serve from cache when possible, reloading the loaded pages behind the scenes if stale
+        DashboardCache.Entry<VoterSnapshot> cached = cache.get(DashboardCache.VOTERS);
+        DashboardCache.Freshness freshness = voterPolicy.classify(
+                cached == null || cached.getValue().isEmpty() ? null : cached);
+        if (freshness != DashboardCache.Freshness.MISS) {
             updateVoterTableFromCache();
+            if (freshness == DashboardCache.Freshness.STALE) {
+                revalidate(voterPolicy, cached, loadVoterPages(), voters -> {
+                    if (!voterSearchActive) {
+                        updateVoterTableFromCache();
+                    }
+                });
+            }
             return;
         }
 
         showLoading();
+        loadVoterPages().whenComplete((voters, e) -> SwingUtilities.invokeLater(() -> {
+            hideLoading();
+            if (e != null) {
+                handleDatabaseError(asException(e));
+            } else {
+                updateVoterTableFromCache();
+            }
+        }));
+    }
+    
+    /**
+     * Fetches the page after the last loaded voter and appends it to the table.
+     */
+    private void loadNextVoterPage() {
+        VoterSnapshot loaded = cachedVoters();
+        if (voterSearchActive || voterPagesExhausted || loaded.isEmpty()
+                || !voterPageLoading.compareAndSet(false, true)) {
+            return;
+        }
+
+        String lastId = loaded.getIdNumber(loaded.size() - 1);
         backgroundExecutor.execute(() -> {
-            try {
-                List<Vector<Object>> voters = AdminDatabaseLogic.getAllVoters(conn);
-                cachedVoters = voters;
-                lastVoterUpdate = System.currentTimeMillis();
-                
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                VoterSnapshot page = AdminDatabaseLogic.getVoterSnapshotPage(dbConn, lastId, AdminDatabaseLogic.VOTER_PAGE_SIZE);
                 SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    updateVoterTableFromCache();
+                    // Drop the page if the cache was reloaded while it was in flight
+                    if (cachedVoters() == loaded && !voterSearchActive) {
+                        int before = loaded.size();
+                        cache.<VoterSnapshot>patch(DashboardCache.VOTERS, voters -> voters.appendAll(page));
+                        voterPagesExhausted = page.size() < AdminDatabaseLogic.VOTER_PAGE_SIZE;
+                        if (voterModel.getRows() == loaded) {
+                            voterModel.rowsAppended(before);
+                        } else {
+                            voterModel.setRows(loaded);
+                        }
+                    }
+                    voterPageLoading.set(false);
                 });
             } catch (Exception e) {
-                SwingUtilities.invokeLater(() -> {
-                    hideLoading();
-                    handleDatabaseError(e);
-                });
+                voterPageLoading.set(false);
+                SwingUtilities.invokeLater(() -> handleDatabaseError(e));
             }
         });
     }
-    
+
     private void updateVoterTableFromCache() {
-        voterModel.setRowCount(0);
-        for (Vector<Object> row : cachedVoters) {
-            voterModel.addRow(row);
-        }
+        voterModel.updateRows(cachedVoters());
     }
 
     private void deleteVoter() {
@@ -2020,12 +2030,15 @@ public class AdminDashboard extends JFrame {
         String idNumber = (String) voterModel.getValueAt(selectedRow, 2);
         showLoading();
         backgroundExecutor.execute(() -> {
-            try {
-                boolean deleted = AdminDatabaseLogic.deleteVoter(conn, idNumber);
+            try (Connection dbConn = AdminDatabaseConnectivity.borrowConnection()) {
+                boolean deleted = AdminDatabaseLogic.deleteVoter(dbConn, idNumber);
                 SwingUtilities.invokeLater(() -> {
                     hideLoading();
                     if (deleted) {
-                        invalidateCache(); // Reload data after deletion
+                        // Drop the one row; the voter's deleted votes change the counts elsewhere
+                        cache.<VoterSnapshot>patch(DashboardCache.VOTERS, voters -> voters.remove(idNumber));
+                        invalidateBallots();
+                        cache.invalidate(DashboardCache.STATS);
                         loadVotersAsync();
                     }
                 });
@@ -2040,11 +2053,8 @@ public class AdminDashboard extends JFrame {
 
     @Override
     public void dispose() {
-        if (connectionMonitorTimer != null) {
-            connectionMonitorTimer.cancel();
-        }
-        if (autoRefreshTimer != null) {
-            autoRefreshTimer.cancel();
+        if (autoRefreshJob != null) {
+            autoRefreshJob.cancel();
         }
         backgroundExecutor.shutdown();
         super.dispose();
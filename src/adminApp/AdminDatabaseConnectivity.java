@@ -1,8 +1,6 @@
 package adminApp;
 
 import java.sql.*;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * AdminDatabaseConnectivity connection class for MySQL (Railway).
@@ -13,9 +11,38 @@ public class AdminDatabaseConnectivity {
     private static final String URL = "jdbc:mysql://shortline.proxy.rlwy.net:36648/railway";
     private static final String USER = "root";
     private static final String PASSWORD = "wHwviYYfzHbeerUnyxIyccXUrYgAhzsL";
+    // Add connection parameters to prevent timeout
+    private static final String CONNECTION_URL = URL + "?autoReconnect=true" +
+        "&useSSL=false" +
+        "&verifyServerCertificate=false" +
+        "&useLegacyDatetimeCode=false" +
+        "&serverTimezone=UTC" +
+        "&connectTimeout=30000" +
+        "&socketTimeout=30000" +
+        "&tcpKeepAlive=true";
+
+    // Pool sizing: enough for the dashboard workers plus refresh/monitor tasks
+    private static final int POOL_MAX_SIZE = 6;
+    private static final long POOL_BORROW_TIMEOUT = 15000;   // 15 seconds
+    // Background borrowers queue for these; the rest of the pool is kept for the scheduler's jobs
+    private static final int POOL_SHARED = Integer.getInteger("admin.db.maxConcurrent", POOL_MAX_SIZE - 1);
+    private static final long POOL_QUEUE_TIMEOUT = Long.getLong("admin.db.queueMillis", 120000);
+    private static final long POOL_IDLE_TIMEOUT = 180000;    // 3 minutes
+    private static final long POOL_MAX_LIFETIME = 1800000;   // 30 minutes
+
+    // Skip the validation round trip for connections used within this window (configurable)
+    private static final long VALIDATION_IDLE_WINDOW = Long.getLong("admin.db.validationIdleWindow", 15000);
+    private static final int VALIDATION_PING_TIMEOUT = 5; // seconds
+
     private static Connection connection = null;
-    private static Timer keepAliveTimer = null;
+    private static final long KEEP_ALIVE_MILLIS = 240000; // 4 minutes
+    private static AdminScheduler.Job keepAliveJob = null;
     private static boolean connectionLost = false;
+    private static final ConnectionValidationPolicy validationPolicy = new ConnectionValidationPolicy(
+            VALIDATION_IDLE_WINDOW, VALIDATION_PING_TIMEOUT);
+    private static final AdminConnectionPool pool = new AdminConnectionPool(
+            POOL_MAX_SIZE, POOL_MAX_SIZE - POOL_SHARED, POOL_BORROW_TIMEOUT, POOL_QUEUE_TIMEOUT,
+            POOL_IDLE_TIMEOUT, POOL_MAX_LIFETIME, validationPolicy);
 
     /**
      * Returns a database connection with automatic reconnection and keep-alive.
@@ -24,32 +51,16 @@ public class AdminDatabaseConnectivity {
         try {
             if (connection == null || connection.isClosed() || !isConnectionValid()) {
                 System.out.println("🔄 Establishing new admin database connection...");
-                Class.forName("com.mysql.cj.jdbc.Driver");
-                
-                // Add connection parameters to prevent timeout
-                String connectionUrl = URL + "?autoReconnect=true" +
-                    "&useSSL=false" +
-                    "&verifyServerCertificate=false" +
-                    "&useLegacyDatetimeCode=false" +
-                    "&serverTimezone=UTC" +
-                    "&connectTimeout=30000" +
-                    "&socketTimeout=30000" +
-                    "&tcpKeepAlive=true";
-                
-                connection = DriverManager.getConnection(connectionUrl, USER, PASSWORD);
-                
-                // Configure connection to prevent timeout
-                connection.setAutoCommit(true);
+                connection = openPhysicalConnection();
+                validationPolicy.markUsed(connection);
                 connectionLost = false;
+                FingerprintTemplateStore.ensureSchema(connection);
                 
                 System.out.println("✅ Connected to MySQL database as user '" + USER + "'.");
                 
                 // Start keep-alive timer if not already running
                 startKeepAlive();
             }
-        } catch (ClassNotFoundException e) {
-            System.err.println("❌ MySQL driver not found: " + e.getMessage());
-            connectionLost = true;
         } catch (SQLException ex) {
             System.err.println("❌ Database connection failed: " + ex.getMessage());
             connectionLost = true;
@@ -59,76 +70,97 @@ public class AdminDatabaseConnectivity {
     }
 
     /**
-     * Validates if the current connection is still active
+     * Borrows a connection from the pool for one unit of background work.
+     * Close the returned connection (try-with-resources) to hand it back.
+     * At most admin.db.maxConcurrent borrowers hold one at a time, and the rest queue; scheduled
+     * jobs borrow from the connection kept back for them, so they never wait behind a bulk load.
+     */
+    public static Connection borrowConnection() throws SQLException {
+        try {
+            return AdminScheduler.getInstance().isSchedulerThread() ? pool.borrowReserved() : pool.borrow();
+        } catch (SQLException e) {
+            System.err.println("❌ Could not borrow pooled connection: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a new physical connection with the shared connection settings.
+     */
+    static Connection openPhysicalConnection() throws SQLException {
+        try {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("MySQL driver not found: " + e.getMessage(), e);
+        }
+
+        Connection conn = DriverManager.getConnection(CONNECTION_URL, USER, PASSWORD);
+        
+        // Configure connection to prevent timeout
+        conn.setAutoCommit(true);
+        return conn;
+    }
+
+    /**
+     * Validates if the current connection is still active.
+     * Uses the validation policy, so a recently used connection costs no round trip.
      */
     private static boolean isConnectionValid() {
         if (connection == null) {
             return false;
         }
         
-        try {
-            // Try to execute a simple query to test connection
-            Statement testStmt = connection.createStatement();
-            testStmt.setQueryTimeout(5); // 5 second timeout
-            ResultSet rs = testStmt.executeQuery("SELECT 1");
-            rs.close();
-            testStmt.close();
-            connectionLost = false;
-            return true;
-        } catch (SQLException e) {
-            System.err.println("❌ Connection validation failed: " + e.getMessage());
-            connectionLost = true;
-            return false;
+        boolean valid = validationPolicy.validate(connection);
+        if (!valid) {
+            System.err.println("❌ Connection validation failed");
         }
+        connectionLost = !valid;
+        return valid;
+    }
+
+    /**
+     * Records that the shared connection just completed work, pushing back its next validation.
+     */
+    public static void markConnectionUsed(Connection conn) {
+        validationPolicy.markUsed(conn);
     }
 
     /**
-     * Starts a timer to execute periodic keep-alive queries
+     * Registers the periodic keep-alive query with the shared scheduler
      */
     private static void startKeepAlive() {
-        // Cancel existing timer if running
-        if (keepAliveTimer != null) {
-            keepAliveTimer.cancel();
+        // Cancel existing job if running
+        if (keepAliveJob != null) {
+            keepAliveJob.cancel();
         }
-        
-        keepAliveTimer = new Timer(true); // Daemon thread
-        keepAliveTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                performKeepAlive();
-            }
-        }, 240000, 240000); // Run every 4 minutes (240,000 ms)
+
+        keepAliveJob = AdminScheduler.getInstance().schedule("keep-alive", KEEP_ALIVE_MILLIS, KEEP_ALIVE_MILLIS,
+                AdminDatabaseConnectivity::performKeepAlive);
     }
 
     /**
-     * Executes a simple query to keep the connection alive
+     * Executes a simple query to keep the connection alive. Returns false if the server could not be reached.
      */
-    private static void performKeepAlive() {
-        Connection conn = null;
-        Statement stmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = getConnection();
-            if (conn != null && !conn.isClosed()) {
-                stmt = conn.createStatement();
-                stmt.setQueryTimeout(5);
-                rs = stmt.executeQuery("SELECT 1");
-                System.out.println("💓 Admin database keep-alive ping executed successfully");
-            }
-        } catch (SQLException e) {
-            System.err.println("❌ Admin keep-alive ping failed: " + e.getMessage());
+    private static synchronized boolean performKeepAlive() {
+        pool.evictIdle();
+
+        // Reconnecting already talks to the server, and getConnection() would validate (and maybe
+        // ping) a live connection right before the ping below, so only fall back to it when down
+        Connection conn = connection;
+        if (conn == null) {
+            return getConnection() != null;
+        }
+
+        // Keep-alive always goes to the server; isValid() is a protocol-level ping
+        if (validationPolicy.ping(conn)) {
+            System.out.println("💓 Admin database keep-alive ping executed successfully (" + validationPolicy.getStatus() + ")");
+            return true;
+        } else {
+            System.err.println("❌ Admin keep-alive ping failed");
             // Force reconnection on next getConnection() call
             connection = null;
             connectionLost = true;
-        } finally {
-            // Close resources
-            try {
-                if (rs != null) rs.close();
-                if (stmt != null) stmt.close();
-            } catch (SQLException e) {
-                System.err.println("❌ Error closing keep-alive resources: " + e.getMessage());
-            }
+            return false;
         }
     }
 
@@ -136,16 +168,8 @@ public class AdminDatabaseConnectivity {
      * Gets a validated connection that is guaranteed to be active
      */
     public static synchronized Connection getValidatedConnection() {
-        Connection conn = getConnection();
-        
-        // Double validation
-        if (!isConnectionValid()) {
-            System.err.println("🔄 Admin connection invalid, forcing reconnection...");
-            connection = null; // Force new connection
-            conn = getConnection();
-        }
-        
-        return conn;
+        // getConnection() already validates and reconnects, so a second check is not needed
+        return getConnection();
     }
 
     /**
@@ -175,19 +199,21 @@ public class AdminDatabaseConnectivity {
     /**
      * Check if we should redirect to login due to connection issues
      */
-    public static boolean shouldRedirectToLogin() {
+    public static synchronized boolean shouldRedirectToLogin() {
         return connectionLost || connection == null || !isConnectionValid();
     }
 
     /**
-     * Closes the database connection and stops keep-alive timer
+     * Closes the database connection, drains the pool and stops keep-alive
      */
     public static synchronized void closeConnection() {
-        // Stop keep-alive timer
-        if (keepAliveTimer != null) {
-            keepAliveTimer.cancel();
-            keepAliveTimer = null;
-            System.out.println("⏹️ Admin keep-alive timer stopped");
+        pool.reset();
+
+        // Stop keep-alive job
+        if (keepAliveJob != null) {
+            keepAliveJob.cancel();
+            keepAliveJob = null;
+            System.out.println("⏹️ Admin keep-alive stopped");
         }
         
         // Close connection
@@ -228,7 +254,7 @@ public class AdminDatabaseConnectivity {
             }
             
             if (isConnectionValid()) {
-                return "✅ Connection active and valid";
+                return "✅ Connection active and valid (" + pool.getStatus() + "; " + validationPolicy.getStatus() + ")";
             } else {
                 return "⚠️ Connection exists but may be stale";
             }
@@ -1,14 +1,41 @@
 package adminApp;
 
+import com.digitalpersona.uareu.Fmd;
+import com.digitalpersona.uareu.UareUException;
+import com.digitalpersona.uareu.UareUGlobal;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
 import javax.swing.JOptionPane;
 
 public class AdminDatabaseLogic {
 
+    // Rows per voter page; the voter table fetches the next page as the user scrolls
+    public static final int VOTER_PAGE_SIZE = Integer.getInteger("admin.voters.pageSize", 500);
+
+    // Most rows a voter search returns; narrow the query to see more specific matches
+    public static final int VOTER_SEARCH_LIMIT = Integer.getInteger("admin.voters.searchLimit", 1000);
+
+    // Columns for voter list views; fingerprint blobs are only read by code that compares them.
+    // Built per query since the presence check depends on which fingerprint columns exist.
+    private static String voterListColumns() {
+        return "NAME, SURNAME, ID_NUMBER, " + FingerprintTemplateStore.presenceColumn() + ", has_voted";
+    }
+
+    private static Vector<Object> voterListRow(ResultSet rs) throws SQLException {
+        Vector<Object> row = new Vector<>();
+        row.add(rs.getString("NAME"));
+        row.add(rs.getString("SURNAME"));
+        row.add(rs.getString("ID_NUMBER"));
+        row.add(rs.getBoolean("HAS_FINGERPRINT") ? "Captured" : "Not Captured");
+        row.add(rs.getBoolean("has_voted") ? "Yes" : "No");
+        return row;
+    }
+
     private static boolean allFieldsFilled(String name, String surname, String idNum) {
         return !(name == null || name.isEmpty()
                 || surname == null || surname.isEmpty()
@@ -68,6 +95,21 @@ public class AdminDatabaseLogic {
         return (sum % 10 == 0);
     }
 
+    /**
+     * Keeps a caller-supplied (e.g. pooled) connection when it is open, otherwise
+     * falls back to the validated shared connection.
+     */
+    private static Connection usableConnection(Connection conn) {
+        try {
+            if (conn != null && !conn.isClosed()) {
+                return conn;
+            }
+        } catch (SQLException e) {
+            System.err.println("⚠️ Connection check failed: " + e.getMessage());
+        }
+        return AdminDatabaseConnectivity.getValidatedConnection();
+    }
+
     private static boolean idExists(Connection conn, String table, String idNum) throws SQLException {
         String query = "SELECT COUNT(*) FROM " + table + " WHERE ID_NUMBER = ?";
         try (PreparedStatement stmt = conn.prepareStatement(query)) {
@@ -80,7 +122,39 @@ public class AdminDatabaseLogic {
         return false;
     }
 
-    public static boolean saveVoter(Connection conn, byte[] fidData, String name, String surname, String idNum) {
+    /**
+     * Refuses enrollment when the same finger is already registered under another ID.
+     * If the check cannot finish within its time budget the admin decides whether to continue.
+     */
+    private static boolean passesDuplicateFingerprintCheck(byte[] fmdData, String idNum) {
+        if (fmdData == null) {
+            return true; // No template to compare (extraction failed at capture)
+        }
+        try {
+            Fmd probe = UareUGlobal.GetImporter().ImportFmd(fmdData, Fmd.Format.ANSI_378_2004, Fmd.Format.ANSI_378_2004);
+            IdentificationResult result = VoterTemplateIndex.getInstance().findDuplicate(probe);
+
+            if (result.isMatched() && !result.getTemplate().getIdNumber().equals(idNum)) {
+                FingerprintTemplate existing = result.getTemplate();
+                JOptionPane.showMessageDialog(null,
+                        "This fingerprint is already enrolled for voter " + existing.getName() + " "
+                        + existing.getSurname() + " (ID: " + existing.getIdNumber() + ").",
+                        "Duplicate Fingerprint", JOptionPane.WARNING_MESSAGE);
+                return false;
+            }
+            if (!result.isComplete()) {
+                int choice = JOptionPane.showConfirmDialog(null,
+                        "The duplicate fingerprint check did not finish in time.\nEnroll this voter anyway?",
+                        "Duplicate Check Incomplete", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+                return choice == JOptionPane.YES_OPTION;
+            }
+        } catch (UareUException e) {
+            System.err.println("Duplicate fingerprint check failed: " + e.getMessage());
+        }
+        return true;
+    }
+
+    public static boolean saveVoter(Connection conn, byte[] fidData, byte[] fmdData, String name, String surname, String idNum) {
         if (!allFieldsFilled(name, surname, idNum)) {
             JOptionPane.showMessageDialog(null, "Please fill in all fields.");
             return false;
@@ -90,23 +164,31 @@ public class AdminDatabaseLogic {
             return false;
         }
         try {
+            FingerprintTemplateStore.ensureSchema(conn);
             if (idExists(conn, "VOTERS", idNum)) {
                 JOptionPane.showMessageDialog(null, "Voter with this ID already exists.");
                 return false;
             }
+            if (!passesDuplicateFingerprintCheck(fmdData, idNum)) {
+                return false;
+            }
             int confirm = JOptionPane.showConfirmDialog(null,
                     "Add this voter?\nName: " + name + " " + surname + "\nID: " + idNum,
                     "Confirm Add Voter", JOptionPane.YES_NO_OPTION);
             if (confirm != JOptionPane.YES_OPTION) {
                 return false;
             }
-            String sql = "INSERT INTO VOTERS (FINGERPRINT, NAME, SURNAME, ID_NUMBER, has_voted) VALUES (?, ?, ?, ?, FALSE)";
+            String sql = "INSERT INTO VOTERS (" + FingerprintTemplateStore.writeColumns() + ", NAME, SURNAME, ID_NUMBER, has_voted) "
+                    + "VALUES (" + FingerprintTemplateStore.writePlaceholders() + ", ?, ?, ?, FALSE)";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setBytes(1, fidData);
-                stmt.setString(2, name);
-                stmt.setString(3, surname);
-                stmt.setString(4, idNum);
+                int next = FingerprintTemplateStore.bind(stmt, 1, fidData, fmdData);
+                stmt.setString(next, name);
+                stmt.setString(next + 1, surname);
+                stmt.setString(next + 2, idNum);
                 stmt.executeUpdate();
+                VoterTemplateIndex.getInstance().add(FingerprintTemplateStore.toTemplate(
+                        idNum, name, surname, fmdData, FingerprintTemplateStore.FORMAT_TAG, null));
+                VoterSearchIndex.getInstance().upsert(name, surname, idNum, true, false);
                 JOptionPane.showMessageDialog(null, "Voter added successfully!");
                 return true;
             }
@@ -116,7 +198,7 @@ public class AdminDatabaseLogic {
         }
     }
 
-    public static boolean saveAdmin(Connection conn, byte[] fidData, String name, String surname, String idNum) {
+    public static boolean saveAdmin(Connection conn, byte[] fidData, byte[] fmdData, String name, String surname, String idNum) {
         if (!allFieldsFilled(name, surname, idNum)) {
             JOptionPane.showMessageDialog(null, "Please fill in all fields.");
             return false;
@@ -126,6 +208,7 @@ public class AdminDatabaseLogic {
             return false;
         }
         try {
+            FingerprintTemplateStore.ensureSchema(conn);
             if (idExists(conn, "Admins", idNum)) {
                 JOptionPane.showMessageDialog(null, "Admin with this ID already exists.");
                 return false;
@@ -136,13 +219,15 @@ public class AdminDatabaseLogic {
             if (confirm != JOptionPane.YES_OPTION) {
                 return false;
             }
-            String sql = "INSERT INTO Admins (FINGERPRINT, NAME, SURNAME, ID_NUMBER) VALUES (?, ?, ?, ?)";
+            String sql = "INSERT INTO Admins (" + FingerprintTemplateStore.writeColumns() + ", NAME, SURNAME, ID_NUMBER) "
+                    + "VALUES (" + FingerprintTemplateStore.writePlaceholders() + ", ?, ?, ?)";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setBytes(1, fidData);
-                stmt.setString(2, name);
-                stmt.setString(3, surname);
-                stmt.setString(4, idNum);
+                int next = FingerprintTemplateStore.bind(stmt, 1, fidData, fmdData);
+                stmt.setString(next, name);
+                stmt.setString(next + 1, surname);
+                stmt.setString(next + 2, idNum);
                 stmt.executeUpdate();
+                AdminTemplateCache.getInstance().addAdmin(idNum, name, surname, fidData, fmdData);
                 JOptionPane.showMessageDialog(null, "Admin added successfully!");
                 return true;
             }
@@ -152,83 +237,81 @@ public class AdminDatabaseLogic {
         }
     }
 
-    public static List<Vector<Object>> getAllVoters(Connection conn) {
-        conn = AdminDatabaseConnectivity.getValidatedConnection();
+    /**
+     * Returns up to pageSize voters ordered by ID_NUMBER, starting after afterId
+     * (null for the first page). Seeks on ID_NUMBER instead of using OFFSET, so
+     * deep pages cost the same as the first. Throws rather than returning a short page,
+     * so callers can tell an error from the end of the table.
+     */
+    public static List<Vector<Object>> getVotersPage(Connection conn, String afterId, int pageSize) throws SQLException {
+        conn = usableConnection(conn);
+        FingerprintTemplateStore.ensureSchema(conn);
         List<Vector<Object>> voters = new ArrayList<>();
-        String sql = "SELECT NAME, SURNAME, ID_NUMBER, FINGERPRINT, has_voted FROM VOTERS";
-        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
-            while (rs.next()) {
-                Vector<Object> row = new Vector<>();
-                row.add(rs.getString("NAME"));
-                row.add(rs.getString("SURNAME"));
-                row.add(rs.getString("ID_NUMBER"));
-                row.add(rs.getBytes("FINGERPRINT") != null ? "Captured" : "Not Captured");
-                row.add(rs.getBoolean("has_voted") ? "Yes" : "No");
-                voters.add(row);
+        String sql = "SELECT " + voterListColumns() + " FROM VOTERS "
+                + "WHERE ID_NUMBER > ? ORDER BY ID_NUMBER LIMIT ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, afterId == null ? "" : afterId);
+            stmt.setInt(2, pageSize);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    voters.add(voterListRow(rs));
+                }
             }
-        } catch (SQLException e) {
-            System.err.println(e.getMessage());
         }
         return voters;
     }
 
+    /**
+     * Same page as {@link #getVotersPage} but decoded straight into a columnar snapshot.
+     */
+    public static VoterSnapshot getVoterSnapshotPage(Connection conn, String afterId, int pageSize) throws SQLException {
+        conn = usableConnection(conn);
+        FingerprintTemplateStore.ensureSchema(conn);
+        VoterSnapshot page = new VoterSnapshot();
+        String sql = "SELECT " + voterListColumns() + " FROM VOTERS "
+                + "WHERE ID_NUMBER > ? ORDER BY ID_NUMBER LIMIT ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, afterId == null ? "" : afterId);
+            stmt.setInt(2, pageSize);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    page.append(rs.getString("NAME"), rs.getString("SURNAME"), rs.getString("ID_NUMBER"),
+                            rs.getBoolean("HAS_FINGERPRINT"), rs.getBoolean("has_voted"));
+                }
+            }
+        }
+        return page;
+    }
+
     public static List<Vector<Object>> searchVoters(Connection conn, String searchTerm) {
-        conn = AdminDatabaseConnectivity.getValidatedConnection();
+        return searchVoters(conn, VoterQuery.parse(searchTerm));
+    }
+
+    /**
+     * Voters matching a structured query, in ID order, capped at {@link #VOTER_SEARCH_LIMIT} rows.
+     */
+    public static List<Vector<Object>> searchVoters(Connection conn, VoterQuery query) {
+        conn = usableConnection(conn);
+        FingerprintTemplateStore.ensureSchema(conn);
         List<Vector<Object>> voters = new ArrayList<>();
-        
-        if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return getAllVoters(conn);
+
+        if (query.isEmpty()) {
+            try {
+                return getVotersPage(conn, null, VOTER_PAGE_SIZE);
+            } catch (SQLException e) {
+                System.err.println("Search error: " + e.getMessage());
+                return voters;
+            }
         }
-        
-        String cleanSearch = searchTerm.trim().toLowerCase();
-        String sql = "SELECT NAME, SURNAME, ID_NUMBER, FINGERPRINT, has_voted FROM VOTERS " +
-                    "WHERE LOWER(NAME) LIKE ? OR LOWER(SURNAME) LIKE ? OR ID_NUMBER LIKE ? OR " +
-                    "LOWER(CONCAT(NAME, ' ', SURNAME)) LIKE ? OR LOWER(CONCAT(SURNAME, ' ', NAME)) LIKE ? OR " +
-                    "LOWER(CONCAT(NAME, SURNAME)) LIKE ? OR LOWER(CONCAT(SURNAME, NAME)) LIKE ? OR " +
-                    "(has_voted = ? AND ? = 'voted') OR (has_voted = ? AND ? = 'not voted') OR " +
-                    "(has_voted = ? AND ? = 'yes') OR (has_voted = ? AND ? = 'no') OR " +
-                    "LOWER(NAME) LIKE ? OR LOWER(SURNAME) LIKE ? OR " +
-                    "LOWER(ID_NUMBER) LIKE ?";
-        
+
+        String sql = "SELECT " + voterListColumns() + " FROM VOTERS WHERE " + query.toSqlWhere()
+                + " ORDER BY ID_NUMBER LIMIT ?";
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            String searchPattern = "%" + cleanSearch + "%";
-            String[] terms = cleanSearch.split("\\s+");
-            
-            for (int i = 1; i <= 7; i++) {
-                stmt.setString(i, searchPattern);
-            }
-            
-            boolean isVoted = cleanSearch.equals("voted") || cleanSearch.equals("yes");
-            boolean isNotVoted = cleanSearch.equals("not voted") || cleanSearch.equals("no");
-            
-            stmt.setBoolean(8, true);
-            stmt.setString(9, cleanSearch);
-            stmt.setBoolean(10, false);
-            stmt.setString(11, cleanSearch);
-            stmt.setBoolean(12, true);
-            stmt.setString(13, cleanSearch);
-            stmt.setBoolean(14, false);
-            stmt.setString(15, cleanSearch);
-            
-            if (terms.length >= 2) {
-                stmt.setString(16, "%" + terms[0] + "%");
-                stmt.setString(17, "%" + terms[1] + "%");
-                stmt.setString(18, "%" + cleanSearch + "%");
-            } else {
-                stmt.setString(16, searchPattern);
-                stmt.setString(17, searchPattern);
-                stmt.setString(18, searchPattern);
-            }
-            
+            int next = query.bind(stmt, 1);
+            stmt.setInt(next, VOTER_SEARCH_LIMIT);
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    Vector<Object> row = new Vector<>();
-                    row.add(rs.getString("NAME"));
-                    row.add(rs.getString("SURNAME"));
-                    row.add(rs.getString("ID_NUMBER"));
-                    row.add(rs.getBytes("FINGERPRINT") != null ? "Captured" : "Not Captured");
-                    row.add(rs.getBoolean("has_voted") ? "Yes" : "No");
-                    voters.add(row);
+                    voters.add(voterListRow(rs));
                 }
             }
         } catch (SQLException e) {
@@ -247,23 +330,20 @@ public class AdminDatabaseLogic {
         String cleanSearch = searchTerm.trim().toLowerCase();
         String searchPattern = "%" + cleanSearch + "%";
         
-        String nationalSql = "SELECT party_name, candidate_name, 'National' as ballot_type, " +
-                           "COALESCE((SELECT COUNT(DISTINCT voter_id_number) FROM Votes WHERE party_name = nb.party_name AND category = 'National'), 0) as votes " +
+        String nationalSql = "SELECT party_name, candidate_name, 'National' as ballot_type " +
                            "FROM NationalBallot nb " +
                            "WHERE LOWER(party_name) LIKE ? OR LOWER(candidate_name) LIKE ? OR " +
                            "LOWER(CONCAT(party_name, ' ', candidate_name)) LIKE ? OR " +
                            "LOWER(CONCAT(candidate_name, ' ', party_name)) LIKE ?";
         
-        String regionalSql = "SELECT party_name, candidate_name, CONCAT('Regional - ', region) as ballot_type, " +
-                           "COALESCE((SELECT COUNT(DISTINCT voter_id_number) FROM Votes WHERE party_name = rb.party_name AND category = 'Regional'), 0) as votes " +
+        String regionalSql = "SELECT party_name, candidate_name, CONCAT('Regional - ', region) as ballot_type " +
                            "FROM RegionalBallot rb " +
                            "WHERE LOWER(party_name) LIKE ? OR LOWER(candidate_name) LIKE ? OR " +
                            "LOWER(region) LIKE ? OR " +
                            "LOWER(CONCAT(party_name, ' ', candidate_name)) LIKE ? OR " +
                            "LOWER(CONCAT(candidate_name, ' ', party_name)) LIKE ?";
         
-        String provincialSql = "SELECT party_name, candidate_name, CONCAT('Provincial - ', province) as ballot_type, " +
-                             "COALESCE((SELECT COUNT(DISTINCT voter_id_number) FROM Votes WHERE party_name = pb.party_name AND category = 'Provincial'), 0) as votes " +
+        String provincialSql = "SELECT party_name, candidate_name, CONCAT('Provincial - ', province) as ballot_type " +
                              "FROM ProvincialBallot pb " +
                              "WHERE LOWER(party_name) LIKE ? OR LOWER(candidate_name) LIKE ? OR " +
                              "LOWER(province) LIKE ? OR " +
@@ -271,76 +351,120 @@ public class AdminDatabaseLogic {
                              "LOWER(CONCAT(candidate_name, ' ', party_name)) LIKE ?";
         
         try {
-            try (PreparedStatement stmt = conn.prepareStatement(nationalSql)) {
-                for (int i = 1; i <= 4; i++) {
-                    stmt.setString(i, searchPattern);
-                }
-                try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        Vector<Object> row = new Vector<>();
-                        row.add(rs.getString("party_name"));
-                        row.add(rs.getString("candidate_name"));
-                        row.add(rs.getString("ballot_type"));
-                        row.add(rs.getInt("votes"));
-                        allCandidates.add(row);
-                    }
-                }
+            // Vote counts come from the tally instead of a COUNT(DISTINCT) subquery per candidate
+            VoteTally tally = VoteTally.getInstance();
+            tally.refresh(conn);
+            addCandidateMatches(conn, nationalSql, 4, searchPattern, "National", tally, allCandidates);
+            addCandidateMatches(conn, regionalSql, 5, searchPattern, "Regional", tally, allCandidates);
+            addCandidateMatches(conn, provincialSql, 5, searchPattern, "Provincial", tally, allCandidates);
+        } catch (SQLException e) {
+            System.err.println("Candidate search error: " + e.getMessage());
+        }
+        
+        return allCandidates;
+    }
+
+    private static void addCandidateMatches(Connection conn, String sql, int patternCount, String searchPattern,
+            String category, VoteTally tally, List<Vector<Object>> out) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= patternCount; i++) {
+                stmt.setString(i, searchPattern);
             }
-            
-            try (PreparedStatement stmt = conn.prepareStatement(regionalSql)) {
-                for (int i = 1; i <= 5; i++) {
-                    stmt.setString(i, searchPattern);
-                }
-                try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        Vector<Object> row = new Vector<>();
-                        row.add(rs.getString("party_name"));
-                        row.add(rs.getString("candidate_name"));
-                        row.add(rs.getString("ballot_type"));
-                        row.add(rs.getInt("votes"));
-                        allCandidates.add(row);
-                    }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Vector<Object> row = new Vector<>();
+                    String party = rs.getString("party_name");
+                    row.add(party);
+                    row.add(rs.getString("candidate_name"));
+                    row.add(rs.getString("ballot_type"));
+                    row.add(tally.getVotes(category, party));
+                    out.add(row);
                 }
             }
-            
-            try (PreparedStatement stmt = conn.prepareStatement(provincialSql)) {
-                for (int i = 1; i <= 5; i++) {
-                    stmt.setString(i, searchPattern);
-                }
-                try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        Vector<Object> row = new Vector<>();
-                        row.add(rs.getString("party_name"));
-                        row.add(rs.getString("candidate_name"));
-                        row.add(rs.getString("ballot_type"));
-                        row.add(rs.getInt("votes"));
-                        allCandidates.add(row);
+        }
+    }
+
+    /**
+     * Candidates of one ballot matching the term, with the same columns as the ballot view:
+     * party, candidate, region/province for those ballots, then votes.
+     */
+    public static List<Vector<Object>> searchBallot(Connection conn, String tableName, String searchTerm) throws SQLException {
+        String category = tableName.replace("Ballot", "");
+        String areaColumn = tableName.equals("RegionalBallot") ? "region"
+                : tableName.equals("ProvincialBallot") ? "province" : null;
+        String sql = "SELECT party_name, candidate_name" + (areaColumn == null ? "" : ", " + areaColumn)
+                + " FROM " + tableName
+                + " WHERE LOWER(party_name) LIKE ? OR LOWER(candidate_name) LIKE ?"
+                + (areaColumn == null ? "" : " OR LOWER(" + areaColumn + ") LIKE ?");
+
+        VoteTally tally = VoteTally.getInstance();
+        tally.refresh(conn);
+        List<Vector<Object>> candidates = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            String searchPattern = "%" + searchTerm.toLowerCase() + "%";
+            stmt.setString(1, searchPattern);
+            stmt.setString(2, searchPattern);
+            if (areaColumn != null) {
+                stmt.setString(3, searchPattern);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Vector<Object> row = new Vector<>();
+                    String party = rs.getString("party_name");
+                    row.add(party);
+                    row.add(rs.getString("candidate_name"));
+                    if (areaColumn != null) {
+                        row.add(rs.getString(areaColumn));
                     }
+                    row.add(tally.getVotes(category, party));
+                    candidates.add(row);
                 }
             }
-            
-        } catch (SQLException e) {
-            System.err.println("Candidate search error: " + e.getMessage());
         }
-        
-        return allCandidates;
+        return candidates;
     }
 
     public static boolean updateVoterFingerprint(Connection conn, String idNumber, byte[] fingerprintData) {
-        conn = AdminDatabaseConnectivity.getValidatedConnection();
-        String sql = "UPDATE VOTERS SET FINGERPRINT = ? WHERE ID_NUMBER = ?";
+        conn = usableConnection(conn);
+        FingerprintTemplateStore.ensureSchema(conn);
+        // Extract the new template now so the row and the duplicate index stay current
+        byte[] fmdData = fingerprintData == null ? null : FingerprintTemplateStore.templateFromStoredImage(fingerprintData);
+        String sql = "UPDATE VOTERS SET " + FingerprintTemplateStore.writeAssignments() + " WHERE ID_NUMBER = ?";
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setBytes(1, fingerprintData);
-            stmt.setString(2, idNumber);
+            int next = FingerprintTemplateStore.bind(stmt, 1, fingerprintData, fmdData);
+            stmt.setString(next, idNumber);
             int rowsAffected = stmt.executeUpdate();
+            if (rowsAffected > 0) {
+                VoterTemplateIndex.getInstance().replace(idNumber, recapturedTemplate(conn, idNumber, fmdData, fingerprintData));
+                VoterSearchIndex.getInstance().setFingerprint(idNumber, fingerprintData != null);
+            }
             return rowsAffected > 0;
         } catch (SQLException e) {
             System.err.println("Error updating fingerprint: " + e.getMessage());
             return false;
         }
     }
+
+    // Template for a re-captured voter, named from their row; null if there is nothing to compare
+    private static FingerprintTemplate recapturedTemplate(Connection conn, String idNumber, byte[] fmdData,
+            byte[] fingerprintData) throws SQLException {
+        if (fmdData == null && fingerprintData == null) {
+            return null;
+        }
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT NAME, SURNAME FROM VOTERS WHERE ID_NUMBER = ?")) {
+            stmt.setString(1, idNumber);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                return FingerprintTemplateStore.toTemplate(idNumber, rs.getString("NAME"), rs.getString("SURNAME"),
+                        fmdData, FingerprintTemplateStore.FORMAT_TAG, fingerprintData);
+            }
+        }
+    }
+
     public static boolean deleteVoter(Connection conn, String idNumber) {
-        conn = AdminDatabaseConnectivity.getValidatedConnection();
+        conn = usableConnection(conn);
         try {
             conn.setAutoCommit(false);
 
@@ -387,6 +511,9 @@ public class AdminDatabaseLogic {
                 if (voterDeleted > 0) {
                     totalRecordsDeleted += voterDeleted;
                     conn.commit();
+                    VoterTemplateIndex.getInstance().remove(idNumber);
+                    VoterSearchIndex.getInstance().remove(idNumber);
+                    VoteTally.getInstance().invalidate();
 
                     System.out.println("Successfully deleted voter " + idNumber
                             + " and " + totalRecordsDeleted + " associated records");
@@ -457,6 +584,8 @@ public class AdminDatabaseLogic {
 
                 if (rowsAffected > 0) {
                     conn.commit();
+                    VoterSearchIndex.getInstance().setVoted(idNumber, false);
+                    VoteTally.getInstance().invalidate();
                     JOptionPane.showMessageDialog(null,
                             "<html><b>Voting status reset successfully!</b><br><br>"
                             + "Voter " + idNumber + " can now vote again as a new voter.</html>");
@@ -560,20 +689,19 @@ public class AdminDatabaseLogic {
 
     public static List<Vector<Object>> getAllCandidatesFromTable(Connection conn, String tableName) {
         String category = tableName.replace("Ballot", "");
-        String sql = "SELECT c.party_name, c.candidate_name, COALESCE(v.vote_count, 0) AS votes "
-                + "FROM " + tableName + " c "
-                + "LEFT JOIN (SELECT party_name, COUNT(DISTINCT voter_id_number) AS vote_count FROM Votes WHERE category = ? GROUP BY party_name) v "
-                + "ON c.party_name = v.party_name";
+        String sql = "SELECT party_name, candidate_name FROM " + tableName;
 
         List<Vector<Object>> candidates = new ArrayList<>();
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, category);
-            try (ResultSet rs = stmt.executeQuery()) {
+        try (Statement stmt = conn.createStatement()) {
+            VoteTally tally = VoteTally.getInstance();
+            tally.refresh(conn);
+            try (ResultSet rs = stmt.executeQuery(sql)) {
                 while (rs.next()) {
                     Vector<Object> row = new Vector<>();
-                    row.add(rs.getString("party_name"));
+                    String party = rs.getString("party_name");
+                    row.add(party);
                     row.add(rs.getString("candidate_name"));
-                    row.add(rs.getInt("votes"));
+                    row.add(tally.getVotes(category, party));
                     candidates.add(row);
                 }
             }
@@ -619,6 +747,7 @@ public class AdminDatabaseLogic {
             }
 
             conn.commit();
+            VoteTally.getInstance().invalidate();
             JOptionPane.showMessageDialog(null, "Candidate and related votes deleted successfully!");
             return true;
 
@@ -643,27 +772,33 @@ public class AdminDatabaseLogic {
 
     public static List<Vector<Object>> getVoteStatistics(Connection conn) {
         List<Vector<Object>> stats = new ArrayList<>();
-        String sql = "SELECT c.party_name, " +
-                     "COALESCE(COUNT(DISTINCT v.voter_id_number), 0) AS total_votes, " +
-                     "COALESCE(SUM(CASE WHEN DATE(v.vote_timestamp) = CURDATE() THEN 1 ELSE 0 END), 0) AS votes_today_raw " +
-                     "FROM (SELECT DISTINCT party_name FROM Votes " +
-                     "      UNION SELECT DISTINCT party_name FROM NationalBallot " +
-                     "      UNION SELECT DISTINCT party_name FROM RegionalBallot " +
-                     "      UNION SELECT DISTINCT party_name FROM ProvincialBallot) c " +
-                     "LEFT JOIN (SELECT party_name, voter_id_number, vote_timestamp " +
-                     "           FROM Votes GROUP BY party_name, voter_id_number, vote_timestamp) v " +
-                     "ON c.party_name = v.party_name " +
-                     "GROUP BY c.party_name " +
-                     "ORDER BY total_votes DESC";
-
-        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
-            while (rs.next()) {
+        // Parties on any ballot plus any that received votes, with counts from the tally
+        String sql = "SELECT party_name FROM NationalBallot "
+                + "UNION SELECT party_name FROM RegionalBallot "
+                + "UNION SELECT party_name FROM ProvincialBallot";
+
+        try (Statement stmt = conn.createStatement()) {
+            VoteTally tally = VoteTally.getInstance();
+            tally.refresh(conn);
+            // One row per party as the collation sees it; ballot spellings win over Votes ones
+            Map<String, String> parties = new HashMap<>();
+            for (String party : tally.getVotedParties()) {
+                parties.put(VoteTally.key(party), party);
+            }
+            try (ResultSet rs = stmt.executeQuery(sql)) {
+                while (rs.next()) {
+                    String party = rs.getString("party_name");
+                    parties.put(VoteTally.key(party), party);
+                }
+            }
+            for (String party : parties.values()) {
                 Vector<Object> row = new Vector<>();
-                row.add(rs.getString("party_name"));
-                row.add(rs.getInt("total_votes")); // This now counts unique voters per party
-                row.add(rs.getInt("votes_today_raw")); // Note: This still needs adjustment for today's votes
+                row.add(party);
+                row.add(tally.getPartyTotal(party)); // Unique voters per party
+                row.add(tally.getPartyToday(party)); // Unique voters per party today
                 stats.add(row);
             }
+            stats.sort((a, b) -> Integer.compare((Integer) b.get(1), (Integer) a.get(1)));
         } catch (SQLException e) {
             System.err.println(e.getMessage());
         }
@@ -676,7 +811,9 @@ public class AdminDatabaseLogic {
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, newValue);
             stmt.setString(2, idNumber);
-            stmt.executeUpdate();
+            if (stmt.executeUpdate() > 0) {
+                VoterSearchIndex.getInstance().rename(idNumber, column, newValue);
+            }
         } catch (SQLException e) {
             System.err.println("Failed to update voter: " + e.getMessage());
         }
@@ -785,52 +922,10 @@ public static boolean updateCandidateImage(Connection conn, String tableName, St
     }
 
     // Get voting statistics summary
+    /**
+     * Headline figures for the dashboard, fetched in a single round trip by {@link VotingSummaryEngine}.
+     */
     public static Vector<Object> getVotingStatisticsSummary(Connection conn) {
-        Vector<Object> summary = new Vector<>();
-        try {
-            // Total registered voters
-            String totalVotersSql = "SELECT COUNT(*) as total FROM VOTERS";
-            try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(totalVotersSql)) {
-                if (rs.next()) {
-                    summary.add(rs.getInt("total"));
-                }
-            }
-
-            // Total votes - Count unique voters instead of total vote rows
-            String totalVotesSql = "SELECT COUNT(DISTINCT voter_id_number) as total FROM Votes";
-            try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(totalVotesSql)) {
-                if (rs.next()) {
-                    summary.add(rs.getInt("total"));
-                }
-            }
-
-            // Votes today - Count unique voters who voted today
-            String todayVotesSql = "SELECT COUNT(DISTINCT voter_id_number) as total FROM Votes WHERE DATE(vote_timestamp) = CURDATE()";
-            try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(todayVotesSql)) {
-                if (rs.next()) {
-                    summary.add(rs.getInt("total"));
-                }
-            }
-
-            // Total casted ballots (actual rows in Votes table)
-            String totalBallotsSql = "SELECT COUNT(*) as total FROM Votes";
-            try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(totalBallotsSql)) {
-                if (rs.next()) {
-                    summary.add(rs.getInt("total"));
-                }
-            }
-
-            // Fraud attempts count
-            String fraudSql = "SELECT COUNT(*) as total FROM FraudAttempts WHERE resolved = FALSE";
-            try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(fraudSql)) {
-                if (rs.next()) {
-                    summary.add(rs.getInt("total"));
-                }
-            }
-
-        } catch (SQLException e) {
-            System.err.println("❌ Error retrieving voting statistics: " + e.getMessage());
-        }
-        return summary;
+        return VotingSummaryEngine.getInstance().fetch(conn);
     }
 }
\ No newline at end of file
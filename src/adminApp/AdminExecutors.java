@@ -0,0 +1,65 @@
+package adminApp;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads for blocking work (JDBC queries, reader calls).
+ *
+ * Each task gets its own thread: a virtual thread when the JVM has them (Java 21+,
+ * looked up reflectively so the app still builds and runs on Java 8), otherwise a
+ * thread from a cached daemon pool. Set admin.threads.platform=true to force the pool.
+ * How many tasks hit the database at once is limited where they borrow their connection
+ * ({@link AdminDatabaseConnectivity#borrowConnection()}), not here, so every borrower counts.
+ */
+public final class AdminExecutors {
+
+    private static final Method VIRTUAL_EXECUTOR = findVirtualExecutor();
+    private static final ExecutorService TASKS = newTaskExecutor("admin-task");
+
+    private AdminExecutors() {
+    }
+
+    /**
+     * A new executor for JDBC work. Shutting it down only affects this executor.
+     */
+    public static ExecutorService newDatabaseExecutor(String name) {
+        return newTaskExecutor(name);
+    }
+
+    /**
+     * Runs a one-off blocking task, e.g. reader selection, a cache warm-up or a migration, on its own thread.
+     */
+    public static void run(Runnable task) {
+        TASKS.execute(task);
+    }
+
+    private static ExecutorService newTaskExecutor(String name) {
+        if (VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                System.err.println("⚠️ Virtual threads unavailable, using platform threads: " + e.getMessage());
+            }
+        }
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Method findVirtualExecutor() {
+        if (Boolean.getBoolean("admin.threads.platform")) {
+            return null;
+        }
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
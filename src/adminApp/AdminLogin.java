@@ -65,17 +65,16 @@ public class AdminLogin extends JFrame {
 
             JDialog scanDialog = createScanDialog();
 
-            new Thread(() -> {
+            AdminExecutors.run(() -> {
                 SwingUtilities.invokeLater(() -> {
                     scanDialog.setVisible(true);
                 });
 
                 try {
                     ReaderCollection readers = UareUGlobal.GetReaderCollection();
-                    readers.GetReaders();
+                    Reader reader = Selection.Select(readers);
 
-                    if (readers.size() > 0) {
-                        Reader reader = readers.get(0);
+                    if (reader != null) {
                         Connection freshConn = AdminDatabaseConnectivity.getConnection();
                         AdminVerification verification = new AdminVerification(reader, freshConn);
                         verification.startVerification((verified, adminName, adminSurname) -> {
@@ -115,7 +114,7 @@ public class AdminLogin extends JFrame {
                         loginButton.setEnabled(true);
                     });
                 }
-            }).start();
+            });
         });
 
         add(mainPanel);
@@ -0,0 +1,164 @@
+package adminApp;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Single scheduler for the admin app's periodic database work (keep-alive, connection
+ * monitor, fraud report refresh), so the pollers share one thread instead of a Timer each.
+ *
+ * Jobs run one after another on a single daemon thread, in a shared tick every
+ * admin.scheduler.tickMillis, so their queries never overlap each other. The next tick
+ * is only scheduled once the current one has finished, so a slow tick skips the ticks it
+ * overran instead of queueing them. A tick that takes longer than
+ * admin.scheduler.slowMillis, or in which a job fails (returns false or throws), doubles the gap to the next one (up to
+ * admin.scheduler.maxBackoff times); a quick tick resets it. Each gap gets up to
+ * admin.scheduler.jitterPercent of random jitter.
+ */
+public class AdminScheduler {
+
+    private static final AdminScheduler INSTANCE = new AdminScheduler();
+
+    private static final long TICK_MILLIS = Long.getLong("admin.scheduler.tickMillis", 30000);
+    private static final long SLOW_MILLIS = Long.getLong("admin.scheduler.slowMillis", 2000);
+    private static final int MAX_BACKOFF = Integer.getInteger("admin.scheduler.maxBackoff", 8);
+    private static final int JITTER_PERCENT = Integer.getInteger("admin.scheduler.jitterPercent", 10);
+
+    /**
+     * A registered periodic job.
+     */
+    public final class Job {
+
+        private final String name;
+        private final long periodMillis;
+        private final BooleanSupplier task;
+        private long nextDue;
+
+        private Job(String name, long periodMillis, long initialDelayMillis, BooleanSupplier task) {
+            this.name = name;
+            this.periodMillis = periodMillis;
+            this.task = task;
+            this.nextDue = System.currentTimeMillis() + initialDelayMillis;
+        }
+
+        /**
+         * Stops the job; a run already in progress finishes.
+         */
+        public void cancel() {
+            jobs.remove(this);
+        }
+    }
+
+    private volatile Thread schedulerThread;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "admin-scheduler");
+        thread.setDaemon(true);
+        schedulerThread = thread;
+        return thread;
+    });
+    private final List<Job> jobs = new CopyOnWriteArrayList<>();
+
+    // Only touched on the scheduler thread
+    private boolean ticking = false;
+    private int backoff = 1;
+    private long ticks = 0;
+    private long skippedTicks = 0;
+
+    private AdminScheduler() {
+    }
+
+    public static AdminScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Whether the caller is a scheduled job, i.e. running on the scheduler's thread.
+     */
+    public boolean isSchedulerThread() {
+        return Thread.currentThread() == schedulerThread;
+    }
+
+    /**
+     * Runs task about every periodMillis (rounded to whole ticks), first after initialDelayMillis.
+     * The task returns false when its run failed, which backs the scheduler off.
+     */
+    public Job schedule(String name, long periodMillis, long initialDelayMillis, BooleanSupplier task) {
+        Job job = new Job(name, periodMillis, initialDelayMillis, task);
+        jobs.add(job);
+        executor.execute(() -> {
+            if (!ticking) {
+                ticking = true;
+                executor.schedule(this::tick, TICK_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            // Jobs due straight away don't wait for the first tick
+            if (initialDelayMillis <= 0) {
+                runDue(System.currentTimeMillis());
+            }
+        });
+        return job;
+    }
+
+    private void tick() {
+        long start = System.currentTimeMillis();
+        boolean failed = runDue(start);
+        long elapsed = System.currentTimeMillis() - start;
+        ticks++;
+
+        if (elapsed > TICK_MILLIS) {
+            skippedTicks += elapsed / TICK_MILLIS;
+        }
+        if (failed || elapsed > SLOW_MILLIS) {
+            if (backoff < MAX_BACKOFF) {
+                backoff = Math.min(MAX_BACKOFF, backoff * 2);
+                System.out.println("🐢 Scheduler tick took " + elapsed + " ms, backing off to every "
+                        + (TICK_MILLIS * backoff / 1000) + " s (" + describe() + ")");
+            }
+        } else if (backoff > 1) {
+            backoff = 1;
+            System.out.println("⏱️ Scheduler back to every " + (TICK_MILLIS / 1000) + " s");
+        }
+
+        long delay = TICK_MILLIS * backoff;
+        long jitter = delay * JITTER_PERCENT / 100;
+        if (jitter > 0) {
+            delay += ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+        }
+        executor.schedule(this::tick, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs the jobs that are due (within half a tick, so jitter doesn't push them a whole
+     * tick late). Returns whether any of them failed.
+     */
+    private boolean runDue(long now) {
+        boolean failed = false;
+        for (Job job : jobs) {
+            if (job.nextDue > now + TICK_MILLIS / 2 || !jobs.contains(job)) {
+                continue;
+            }
+            job.nextDue = now + job.periodMillis;
+            try {
+                if (!job.task.getAsBoolean()) {
+                    failed = true;
+                    System.err.println("⚠️ Scheduled job '" + job.name + "' reported a failure");
+                }
+            } catch (RuntimeException e) {
+                failed = true;
+                System.err.println("❌ Scheduled job '" + job.name + "' failed: " + e.getMessage());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Tick counters, e.g. "42 ticks, 1 skipped, backoff x1".
+     */
+    public String describe() {
+        return ticks + " ticks, " + skippedTicks + " skipped, backoff x" + backoff;
+    }
+}
@@ -0,0 +1,97 @@
+package adminApp;
+
+import com.digitalpersona.uareu.Fid;
+import com.digitalpersona.uareu.UareUException;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory cache of admin fingerprint templates.
+ * Admin rows are read and converted to FMDs once; later logins only capture and compare.
+ */
+public class AdminTemplateCache {
+
+    private static final AdminTemplateCache INSTANCE = new AdminTemplateCache();
+
+    private final List<FingerprintTemplate> templates = new CopyOnWriteArrayList<>();
+    private volatile boolean loaded = false;
+
+    private AdminTemplateCache() {
+    }
+
+    public static AdminTemplateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Loads every admin template on first use; later calls return immediately.
+     */
+    public synchronized void ensureLoaded(Connection conn) throws SQLException {
+        if (loaded) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<FingerprintTemplate> fresh = new ArrayList<>();
+        FingerprintTemplateStore.ensureSchema(conn);
+        try (PreparedStatement ps = conn.prepareStatement(
+                     "SELECT NAME, SURNAME, ID_NUMBER, " + FingerprintTemplateStore.templateColumns() + " FROM Admins");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                FingerprintTemplate template = FingerprintTemplateStore.toTemplate(
+                        rs.getString("ID_NUMBER"), rs.getString("NAME"), rs.getString("SURNAME"),
+                        rs.getBytes(FingerprintTemplateStore.FMD_COLUMN),
+                        rs.getString(FingerprintTemplateStore.FORMAT_COLUMN),
+                        rs.getBytes("FINGERPRINT"));
+                if (template != null) {
+                    fresh.add(template);
+                }
+            }
+        }
+
+        templates.clear();
+        templates.addAll(fresh);
+        loaded = true;
+        System.out.println("🗂️ Loaded " + fresh.size() + " admin templates in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    /**
+     * Returns the cached templates with FMDs ready to compare against the probe.
+     */
+    public List<FingerprintTemplate> getTemplates(Connection conn, Fid probe) throws SQLException, UareUException {
+        ensureLoaded(conn);
+        for (FingerprintTemplate template : templates) {
+            template.getFmd(probe);
+        }
+        return templates;
+    }
+
+    /**
+     * Adds a newly enrolled admin without reloading the table.
+     * Call after the row is committed. Takes the load's lock, so the admin is either in a
+     * load's SELECT or added after that load publishes, never dropped in between.
+     */
+    public void addAdmin(String idNumber, String name, String surname, byte[] fidData, byte[] fmdData) {
+        FingerprintTemplate template = FingerprintTemplateStore.toTemplate(
+                idNumber, name, surname, fmdData, FingerprintTemplateStore.FORMAT_TAG, fidData);
+        synchronized (this) {
+            if (!loaded || template == null) {
+                return; // Picked up by the next full load
+            }
+            // The load may already have read the committed row
+            templates.removeIf(t -> t.getIdNumber().equals(idNumber));
+            templates.add(template);
+        }
+    }
+
+    /**
+     * Forces the next lookup to reload from the database.
+     */
+    public synchronized void invalidate() {
+        loaded = false;
+        templates.clear();
+    }
+}
@@ -3,6 +3,7 @@ package adminApp;
 import com.digitalpersona.uareu.*;
 import javax.swing.*;
 import java.sql.*;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -11,12 +12,17 @@ public class AdminVerification {
     private Reader m_reader;
     private CaptureThread m_capture;
     private Connection conn;
+    private IdentificationEngine identificationEngine = IdentificationEngine.defaultEngine();
 
     public AdminVerification(Reader reader, Connection conn) {
         this.m_reader = reader;
         this.conn = conn;
     }
 
+    public void setIdentificationEngine(IdentificationEngine identificationEngine) {
+        this.identificationEngine = identificationEngine;
+    }
+
     // Callback interface for results
     public interface VerificationCallback {
         void onVerificationComplete(boolean verified, String adminName, String adminSurname);
@@ -25,6 +31,7 @@ public class AdminVerification {
     public void startVerification(VerificationCallback callback) {
         try {
             m_reader.Open(Reader.Priority.COOPERATIVE);
+            preloadTemplates();
             startCaptureThread(callback);
             System.out.println("🔍 Waiting for admin fingerprint...");
         } catch (UareUException e) {
@@ -33,6 +40,20 @@ public class AdminVerification {
         }
     }
 
+    /**
+     * Warms the admin template cache while the user is still placing their finger.
+     */
+    private void preloadTemplates() {
+        AdminExecutors.run(() -> {
+            try {
+                AdminTemplateCache.getInstance().ensureLoaded(conn);
+                AdminDatabaseConnectivity.markConnectionUsed(conn);
+            } catch (SQLException e) {
+                System.err.println("⚠️ Could not preload admin templates: " + e.getMessage());
+            }
+        });
+    }
+
     private void startCaptureThread(VerificationCallback callback) {
         m_capture = new CaptureThread(
                 m_reader,
@@ -45,12 +66,18 @@ public class AdminVerification {
             if (evt.getActionCommand().equals(CaptureThread.ACT_CAPTURE)) {
                 CaptureThread.CaptureEvent ce = (CaptureThread.CaptureEvent) evt;
                 if (ce.capture_result != null && ce.capture_result.quality == Reader.CaptureQuality.GOOD) {
-                    try {
-                        processFingerprint(ce.capture_result.image, callback);
-                    } catch (SQLException ex) {
-                        Logger.getLogger(AdminVerification.class.getName()).log(Level.SEVERE, null, ex);
-                        callback.onVerificationComplete(false, null, null);
-                    }
+                    // Matching runs off the EDT so the UI stays responsive
+                    AdminExecutors.run(() -> {
+                        try {
+                            processFingerprint(ce.capture_result.image, callback);
+                        } catch (SQLException | RuntimeException ex) {
+                            Logger.getLogger(AdminVerification.class.getName()).log(Level.SEVERE, null, ex);
+                            callback.onVerificationComplete(false, null, null);
+                        }
+                    });
+                } else if (ce.error != null) {
+                    stopCaptureThread();
+                    callback.onVerificationComplete(false, null, null);
                 }
             }
         });
@@ -80,37 +107,21 @@ public class AdminVerification {
     private void processFingerprint(Fid fid, VerificationCallback callback) throws SQLException {
         Engine engine = UareUGlobal.GetEngine();
 
-        // Use the shared connection instead of opening a new one
-        try (PreparedStatement ps = conn.prepareStatement(
-                     "SELECT NAME, SURNAME, ID_NUMBER, FINGERPRINT FROM Admins");
-             ResultSet rs = ps.executeQuery()) {
+        try {
+            // Templates come from the in-memory cache; only the first login reads the Admins table
+            List<FingerprintTemplate> templates = AdminTemplateCache.getInstance().getTemplates(conn, fid);
+            AdminDatabaseConnectivity.markConnectionUsed(conn);
 
             Fmd capturedFmd = engine.CreateFmd(fid, Fmd.Format.ANSI_378_2004);
-            boolean matched = false;
-            String adminName = null, adminSurname = null;
-
-            while (rs.next()) {
-                byte[] storedData = rs.getBytes("FINGERPRINT");
-                if (storedData == null) continue;
-
-                int width = fid.getViews()[0].getWidth();
-                int height = fid.getViews()[0].getHeight();
-                int resolution = fid.getImageResolution();
-                int finger_position = fid.getViews()[0].getFingerPosition();
-                int cbeff_id = fid.getCbeffId();
-
-                Fmd storedFmd = engine.CreateFmd(
-                        storedData, width, height, resolution, finger_position, cbeff_id, Fmd.Format.ANSI_378_2004);
+            IdentificationResult result = identificationEngine.identify(
+                    capturedFmd, templates, IdentificationEngine.DEFAULT_THRESHOLD);
 
-                int score = engine.Compare(capturedFmd, 0, storedFmd, 0);
-
-                if (score < Engine.PROBABILITY_ONE / 100000) {
-                    matched = true;
-                    adminName = rs.getString("NAME");
-                    adminSurname = rs.getString("SURNAME");
-                    System.out.println("✅ Match found for admin: " + adminName + " " + adminSurname);
-                    break;
-                }
+            boolean matched = result.isMatched();
+            String adminName = null, adminSurname = null;
+            if (matched) {
+                adminName = result.getTemplate().getName();
+                adminSurname = result.getTemplate().getSurname();
+                System.out.println("✅ Match found for admin: " + adminName + " " + adminSurname + " (" + result + ")");
             }
 
             stopCaptureThread();
@@ -121,4 +132,4 @@ public class AdminVerification {
             callback.onVerificationComplete(false, null, null);
         }
     }
-}
\ No newline at end of file
+}
@@ -15,6 +15,8 @@ public class CaptureThread extends Thread {
         public Reader.CaptureResult capture_result;
         public Reader.Status reader_status;
         public UareUException exception;
+        // Failure outside the SDK, e.g. the shared status monitor giving up
+        public RuntimeException error;
 
         public CaptureEvent(Object source, String action, Reader.CaptureResult cr, Reader.Status st, UareUException ex) {
             super(source, ActionEvent.ACTION_PERFORMED, action);
@@ -25,7 +27,8 @@ public class CaptureThread extends Thread {
     }
 
     private ActionListener m_listener;
-    private boolean m_bCancel;
+    private volatile boolean m_bCancel;
+    private volatile ReaderStatusMonitor.Subscription m_statusWait;
     private Reader m_reader;
     private boolean m_bStream;
     private Fid.Format m_format;
@@ -60,16 +63,16 @@ public class CaptureThread extends Thread {
     private void Capture() {
         try {
             boolean bReady = false;
-            while (!bReady && !m_bCancel) {
-                Reader.Status rs = m_reader.GetStatus();
-                if (Reader.ReaderStatus.BUSY == rs.status) {
-                    Thread.sleep(100);
-                } else if (Reader.ReaderStatus.READY == rs.status || Reader.ReaderStatus.NEED_CALIBRATION == rs.status) {
+            m_statusWait = ReaderStatusMonitor.forReader(m_reader).subscribe();
+            if (m_bCancel) {
+                m_statusWait.cancel();
+            }
+            Reader.Status rs = m_statusWait.await();
+            if (rs != null && !m_bCancel) {
+                if (Reader.ReaderStatus.READY == rs.status || Reader.ReaderStatus.NEED_CALIBRATION == rs.status) {
                     bReady = true;
-                    break;
                 } else {
                     NotifyListener(ACT_CAPTURE, null, rs, null);
-                    break;
                 }
             }
 
@@ -86,12 +89,25 @@ public class CaptureThread extends Thread {
         } catch (UareUException e) {
             NotifyListener(ACT_CAPTURE, null, null, e);
         } catch (InterruptedException e) {
-            e.printStackTrace();
+            // Keep the interrupt for whoever owns this thread, and tell the listener the capture ended
+            Thread.currentThread().interrupt();
+            Reader.CaptureResult cr = new Reader.CaptureResult();
+            cr.quality = Reader.CaptureQuality.CANCELED;
+            NotifyListener(ACT_CAPTURE, cr, null, null);
+        } catch (RuntimeException e) {
+            System.err.println("❌ Capture failed: " + e.getMessage());
+            CaptureEvent evt = new CaptureEvent(this, ACT_CAPTURE, null, null, null);
+            evt.error = e;
+            NotifyListener(evt);
         }
     }
 
     private void NotifyListener(String action, Reader.CaptureResult cr, Reader.Status st, UareUException ex) {
-        final CaptureEvent evt = new CaptureEvent(this, action, cr, st, ex);
+        NotifyListener(new CaptureEvent(this, action, cr, st, ex));
+    }
+
+    private void NotifyListener(final CaptureEvent evt) {
+        String action = evt.getActionCommand();
         m_last_capture = evt;
         if (m_listener != null && action != null && !action.equals("")) {
             javax.swing.SwingUtilities.invokeLater(() -> m_listener.actionPerformed(evt));
@@ -100,6 +116,10 @@ public class CaptureThread extends Thread {
 
     public void cancel() {
         m_bCancel = true;
+        ReaderStatusMonitor.Subscription statusWait = m_statusWait;
+        if (statusWait != null) {
+            statusWait.cancel();
+        }
         try {
             if (!m_bStream) {
                 m_reader.CancelCapture();
@@ -0,0 +1,124 @@
+package adminApp;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when a connection actually needs a server round trip to be validated.
+ * A connection that was used successfully within the idle window is trusted as-is;
+ * older ones are checked with the driver's lightweight isValid() ping instead of SELECT 1.
+ */
+public class ConnectionValidationPolicy {
+
+    private volatile long idleWindowMillis;
+    private final int pingTimeoutSeconds;
+
+    // Last time each physical connection was known to be working
+    private final Map<Connection, Long> lastSuccessfulUse = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final AtomicLong validationsPerformed = new AtomicLong();
+    private final AtomicLong validationsAvoided = new AtomicLong();
+    private final AtomicLong validationsFailed = new AtomicLong();
+
+    public ConnectionValidationPolicy(long idleWindowMillis, int pingTimeoutSeconds) {
+        this.idleWindowMillis = idleWindowMillis;
+        this.pingTimeoutSeconds = pingTimeoutSeconds;
+    }
+
+    /**
+     * Returns true if the connection can be used, pinging the server only when
+     * it has been idle for longer than the configured window.
+     */
+    public boolean validate(Connection conn) {
+        if (conn == null) {
+            return false;
+        }
+
+        try {
+            if (conn.isClosed()) {
+                forget(conn);
+                return false;
+            }
+        } catch (SQLException e) {
+            forget(conn);
+            return false;
+        }
+
+        Long lastUse = lastSuccessfulUse.get(conn);
+        if (lastUse != null && System.currentTimeMillis() - lastUse < idleWindowMillis) {
+            validationsAvoided.incrementAndGet();
+            return true;
+        }
+
+        return ping(conn);
+    }
+
+    /**
+     * Always pings the server, e.g. for keep-alive where the round trip is the point.
+     */
+    public boolean ping(Connection conn) {
+        if (conn == null) {
+            return false;
+        }
+
+        validationsPerformed.incrementAndGet();
+        try {
+            if (conn.isValid(pingTimeoutSeconds)) {
+                markUsed(conn);
+                return true;
+            }
+        } catch (SQLException e) {
+            System.err.println("❌ Connection ping failed: " + e.getMessage());
+        }
+
+        validationsFailed.incrementAndGet();
+        forget(conn);
+        return false;
+    }
+
+    /**
+     * Records that the connection just completed work successfully.
+     */
+    public void markUsed(Connection conn) {
+        if (conn != null) {
+            lastSuccessfulUse.put(conn, System.currentTimeMillis());
+        }
+    }
+
+    public void forget(Connection conn) {
+        if (conn != null) {
+            lastSuccessfulUse.remove(conn);
+        }
+    }
+
+    public long getIdleWindowMillis() {
+        return idleWindowMillis;
+    }
+
+    public void setIdleWindowMillis(long idleWindowMillis) {
+        this.idleWindowMillis = idleWindowMillis;
+    }
+
+    public long getValidationsPerformed() {
+        return validationsPerformed.get();
+    }
+
+    public long getValidationsAvoided() {
+        return validationsAvoided.get();
+    }
+
+    public long getValidationsFailed() {
+        return validationsFailed.get();
+    }
+
+    public String getStatus() {
+        return "validations performed=" + validationsPerformed.get()
+                + ", avoided=" + validationsAvoided.get()
+                + ", failed=" + validationsFailed.get()
+                + ", idle window=" + idleWindowMillis + " ms";
+    }
+}
@@ -0,0 +1,177 @@
+package adminApp;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe cache behind the dashboard panels, keyed by entity ({@link #VOTERS},
+ * {@link #STATS}) or ballot table ({@link #ballot}).
+ *
+ * Each key has a version that moves on every store, patch and invalidation. A load takes
+ * the version before it queries and only stores its result if the key was not touched in
+ * the meantime, so a slow reload cannot overwrite a newer edit. Single-row edits are
+ * patched into the cached value rather than dropping it.
+ *
+ * Panels read through a {@link Policy}: a fresh value is served as-is, a stale one is
+ * served immediately while the panel reloads it in the background, and only a missing
+ * or expired value makes the user wait for a query.
+ */
+public class DashboardCache {
+
+    public static final String VOTERS = "voters";
+    public static final String STATS = "stats";
+
+    /**
+     * A cached value with the version it was stored under.
+     */
+    public static final class Entry<T> {
+
+        private final T value;
+        private final long version;
+        private final long loadedAt;
+
+        private Entry(T value, long version, long loadedAt) {
+            this.value = value;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public long getAgeMillis() {
+            return System.currentTimeMillis() - loadedAt;
+        }
+    }
+
+    /**
+     * How a cached value was classified when a panel asked for it.
+     */
+    public enum Freshness {
+        FRESH, STALE, MISS
+    }
+
+    /**
+     * Serving windows for one panel, read from admin.cache.&lt;panel&gt;.freshMillis and
+     * admin.cache.&lt;panel&gt;.staleMillis: values younger than freshMillis are served without
+     * a reload, values younger than staleMillis are served while a reload runs in the
+     * background, anything older is reloaded before it is shown. Counts each outcome.
+     */
+    public static final class Policy {
+
+        private final String panel;
+        private final long freshMillis;
+        private final long staleMillis;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong staleHits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+
+        private Policy(String panel, long freshMillis, long staleMillis) {
+            this.panel = panel;
+            this.freshMillis = freshMillis;
+            this.staleMillis = Math.max(freshMillis, staleMillis);
+        }
+
+        public static Policy forPanel(String panel, long freshMillis, long staleMillis) {
+            return new Policy(panel,
+                    Long.getLong("admin.cache." + panel + ".freshMillis", freshMillis),
+                    Long.getLong("admin.cache." + panel + ".staleMillis", staleMillis));
+        }
+
+        /**
+         * Classifies a cached entry (null when nothing is cached) and records the outcome.
+         */
+        public Freshness classify(Entry<?> entry) {
+            long age = entry == null ? Long.MAX_VALUE : entry.getAgeMillis();
+            if (age < freshMillis) {
+                hits.incrementAndGet();
+                return Freshness.FRESH;
+            }
+            if (age < staleMillis) {
+                staleHits.incrementAndGet();
+                return Freshness.STALE;
+            }
+            misses.incrementAndGet();
+            return Freshness.MISS;
+        }
+
+        /**
+         * Hit, stale and miss counts, e.g. "candidates 12 hit / 3 stale / 1 miss".
+         */
+        public String describe() {
+            return panel + " " + hits.get() + " hit / " + staleHits.get() + " stale / " + misses.get() + " miss";
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry<?>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public static String ballot(String tableName) {
+        return "ballot:" + tableName;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Entry<T> get(String key) {
+        return (Entry<T>) entries.get(key);
+    }
+
+    /**
+     * Version to hand to {@link #store} for a load that starts now.
+     */
+    public long beginLoad(String key) {
+        return versionOf(key).get();
+    }
+
+    /**
+     * Stores a loaded value unless the key changed since {@link #beginLoad}. Returns whether it was stored.
+     */
+    public <T> boolean store(String key, long loadVersion, T value) {
+        AtomicLong version = versionOf(key);
+        synchronized (version) {
+            if (version.get() != loadVersion) {
+                return false;
+            }
+            entries.put(key, new Entry<>(value, version.incrementAndGet(), System.currentTimeMillis()));
+            return true;
+        }
+    }
+
+    /**
+     * Applies an in-place change to the cached value, if there is one. Returns whether it was applied.
+     */
+    public <T> boolean patch(String key, Consumer<T> change) {
+        AtomicLong version = versionOf(key);
+        synchronized (version) {
+            Entry<T> entry = get(key);
+            if (entry == null) {
+                return false;
+            }
+            change.accept(entry.value);
+            entries.put(key, new Entry<>(entry.value, version.incrementAndGet(), entry.loadedAt));
+            return true;
+        }
+    }
+
+    /**
+     * Drops the given keys so their next read reloads them.
+     */
+    public void invalidate(String... keys) {
+        for (String key : keys) {
+            AtomicLong version = versionOf(key);
+            synchronized (version) {
+                version.incrementAndGet();
+                entries.remove(key);
+            }
+        }
+    }
+
+    private AtomicLong versionOf(String key) {
+        return versions.computeIfAbsent(key, k -> new AtomicLong());
+    }
+}
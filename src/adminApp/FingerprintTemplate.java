@@ -0,0 +1,80 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+
+/**
+ * A stored fingerprint with its ready-to-compare FMD and the person it belongs to.
+ */
+public class FingerprintTemplate {
+
+    private final String idNumber;
+    private final String name;
+    private final String surname;
+    private volatile Fmd fmd;
+    // Legacy image that could not be imported on its own; converted on first compare
+    private volatile byte[] pendingImage;
+
+    public FingerprintTemplate(String idNumber, String name, String surname, Fmd fmd) {
+        this.idNumber = idNumber;
+        this.name = name;
+        this.surname = surname;
+        this.fmd = fmd;
+    }
+
+    private FingerprintTemplate(String idNumber, String name, String surname, byte[] pendingImage) {
+        this(idNumber, name, surname, (Fmd) null);
+        this.pendingImage = pendingImage;
+    }
+
+    /**
+     * Builds a template from the raw ANSI-381 image bytes stored at enrollment.
+     * The image is imported with its own geometry; if that fails the bytes are kept
+     * and converted later with the probe's geometry, as verification used to do.
+     */
+    public static FingerprintTemplate fromStoredImage(String idNumber, String name, String surname, byte[] imageData) {
+        try {
+            Fid storedFid = UareUGlobal.GetImporter().ImportFid(imageData, Fid.Format.ANSI_381_2004);
+            Fmd fmd = UareUGlobal.GetEngine().CreateFmd(storedFid, Fmd.Format.ANSI_378_2004);
+            return new FingerprintTemplate(idNumber, name, surname, fmd);
+        } catch (UareUException | RuntimeException e) {
+            return new FingerprintTemplate(idNumber, name, surname, imageData);
+        }
+    }
+
+    /**
+     * Returns the FMD, converting a pending legacy image with the probe's geometry if needed.
+     */
+    public Fmd getFmd(Fid probe) throws UareUException {
+        Fmd current = fmd;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (fmd == null && pendingImage != null && probe != null) {
+                Fid.Fiv view = probe.getViews()[0];
+                fmd = UareUGlobal.GetEngine().CreateFmd(
+                        pendingImage, view.getWidth(), view.getHeight(), probe.getImageResolution(),
+                        view.getFingerPosition(), probe.getCbeffId(), Fmd.Format.ANSI_378_2004);
+                pendingImage = null;
+            }
+            return fmd;
+        }
+    }
+
+    public Fmd getFmd() {
+        return fmd;
+    }
+
+    public String getIdNumber() {
+        return idNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSurname() {
+        return surname;
+    }
+}
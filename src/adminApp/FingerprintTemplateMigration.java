@@ -0,0 +1,111 @@
+package adminApp;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Background job that converts rows enrolled with a raw image into stored templates.
+ * Works through each table in ID_NUMBER order, one small batch per pooled connection.
+ */
+public class FingerprintTemplateMigration implements Runnable {
+
+    private static final int BATCH_SIZE = 200;
+    private static final String[] TABLES = {"Admins", "VOTERS"};
+
+    private static boolean started = false;
+
+    /**
+     * Starts the migration once per session in the background.
+     */
+    public static synchronized void startInBackground() {
+        if (started || !FingerprintTemplateStore.getStorageMode().storesTemplate()) {
+            return;
+        }
+        started = true;
+        AdminExecutors.run(new FingerprintTemplateMigration());
+    }
+
+    @Override
+    public void run() {
+        for (String table : TABLES) {
+            try {
+                migrateTable(table);
+            } catch (SQLException e) {
+                System.err.println("❌ Template migration for " + table + " stopped: " + e.getMessage());
+            }
+        }
+    }
+
+    private void migrateTable(String table) throws SQLException {
+        long start = System.currentTimeMillis();
+        int converted = 0, failed = 0;
+        String lastId = "";
+        boolean clearImage = !FingerprintTemplateStore.getStorageMode().storesImage();
+
+        String selectSql = "SELECT ID_NUMBER, FINGERPRINT FROM " + table
+                + " WHERE FINGERPRINT IS NOT NULL AND " + FingerprintTemplateStore.FMD_COLUMN + " IS NULL"
+                + " AND ID_NUMBER > ? ORDER BY ID_NUMBER LIMIT " + BATCH_SIZE;
+        String updateSql = "UPDATE " + table + " SET " + FingerprintTemplateStore.FMD_COLUMN + " = ?, "
+                + FingerprintTemplateStore.FORMAT_COLUMN + " = ?"
+                + (clearImage ? ", FINGERPRINT = NULL" : "")
+                // Only rows still unconverted: a re-capture since the SELECT already wrote a newer template
+                + " WHERE ID_NUMBER = ? AND " + FingerprintTemplateStore.FMD_COLUMN + " IS NULL";
+
+        while (!Thread.currentThread().isInterrupted()) {
+            List<String> ids = new ArrayList<>();
+            List<byte[]> templates = new ArrayList<>();
+            int fetched = 0;
+
+            try (Connection conn = AdminDatabaseConnectivity.borrowConnection()) {
+                FingerprintTemplateStore.ensureSchema(conn);
+                if (!FingerprintTemplateStore.hasTemplateColumns()) {
+                    return;
+                }
+
+                try (PreparedStatement select = conn.prepareStatement(selectSql)) {
+                    select.setString(1, lastId);
+                    try (ResultSet rs = select.executeQuery()) {
+                        while (rs.next()) {
+                            fetched++;
+                            lastId = rs.getString("ID_NUMBER");
+                            byte[] template = FingerprintTemplateStore.templateFromStoredImage(rs.getBytes("FINGERPRINT"));
+                            if (template == null) {
+                                failed++;
+                                continue;
+                            }
+                            ids.add(lastId);
+                            templates.add(template);
+                        }
+                    }
+                }
+
+                if (!ids.isEmpty()) {
+                    try (PreparedStatement update = conn.prepareStatement(updateSql)) {
+                        for (int i = 0; i < ids.size(); i++) {
+                            update.setBytes(1, templates.get(i));
+                            update.setString(2, FingerprintTemplateStore.FORMAT_TAG);
+                            update.setString(3, ids.get(i));
+                            update.addBatch();
+                        }
+                        for (int updated : update.executeBatch()) {
+                            // Rows re-captured in the meantime match nothing and are left alone
+                            if (updated > 0 || updated == Statement.SUCCESS_NO_INFO) {
+                                converted++;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (fetched < BATCH_SIZE) {
+                break; // Last batch for this table
+            }
+        }
+
+        if (converted > 0 || failed > 0) {
+            System.out.println("🧬 Migrated " + converted + " " + table + " fingerprints to templates ("
+                    + failed + " unreadable) in " + (System.currentTimeMillis() - start) + " ms");
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.sql.*;
+
+/**
+ * Storage of extracted ANSI-378 templates next to (or instead of) the raw enrollment image.
+ * Templates live in their own FINGERPRINT_FMD column, tagged with FMD_FORMAT so the
+ * encoding can change later without guessing what a row holds.
+ *
+ * The columns are added by sql/003_fingerprint_template_columns.sql. Until that has run,
+ * the SQL fragments here fall back to the raw FINGERPRINT column and enrollment stores
+ * images only, so the rest of the app keeps working.
+ */
+public class FingerprintTemplateStore {
+
+    public static final String FMD_COLUMN = "FINGERPRINT_FMD";
+    public static final String FORMAT_COLUMN = "FMD_FORMAT";
+    public static final String FORMAT_TAG = "ANSI_378_2004/v1";
+
+    /**
+     * What enrollment writes. BOTH keeps the raw image for clients that still read it.
+     */
+    public enum StorageMode {
+        RAW_IMAGE, FMD, BOTH;
+
+        public boolean storesImage() {
+            return this != FMD;
+        }
+
+        public boolean storesTemplate() {
+            return this != RAW_IMAGE;
+        }
+    }
+
+    private static final StorageMode storageMode = parseMode(System.getProperty("admin.fingerprint.storage", "BOTH"));
+    private static boolean schemaChecked = false;
+    // Assumed present until a check says otherwise, so a failed check doesn't disable templates
+    private static volatile boolean templateColumnsPresent = true;
+
+    private static StorageMode parseMode(String value) {
+        try {
+            return StorageMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ Unknown fingerprint storage mode '" + value + "', using BOTH");
+            return StorageMode.BOTH;
+        }
+    }
+
+    /**
+     * The configured mode, or RAW_IMAGE while the template columns are missing.
+     */
+    public static StorageMode getStorageMode() {
+        return templateColumnsPresent ? storageMode : StorageMode.RAW_IMAGE;
+    }
+
+    /**
+     * Checks whether VOTERS and Admins have the template columns. Runs once per session;
+     * a failed check is retried on the next call.
+     */
+    public static synchronized void ensureSchema(Connection conn) {
+        if (schemaChecked || conn == null) {
+            return;
+        }
+        try {
+            templateColumnsPresent = hasTemplateColumns(conn, "VOTERS") && hasTemplateColumns(conn, "Admins");
+            schemaChecked = true;
+            if (!templateColumnsPresent) {
+                System.err.println("⚠️ Fingerprint template columns are missing; storing raw images only. "
+                        + "Apply sql/003_fingerprint_template_columns.sql to enable templates.");
+            }
+        } catch (SQLException e) {
+            System.err.println("❌ Could not check fingerprint template columns: " + e.getMessage());
+        }
+    }
+
+    public static boolean hasTemplateColumns() {
+        return templateColumnsPresent;
+    }
+
+    private static boolean hasTemplateColumns(Connection conn, String table) throws SQLException {
+        return columnExists(conn, table, FMD_COLUMN) && columnExists(conn, table, FORMAT_COLUMN);
+    }
+
+    private static boolean columnExists(Connection conn, String table, String column) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getColumns(conn.getCatalog(), null, table, column)) {
+            return rs.next();
+        }
+    }
+
+    /**
+     * Extracts the ANSI-378 template from a capture.
+     */
+    public static byte[] extractTemplate(Fid fid) throws UareUException {
+        return UareUGlobal.GetEngine().CreateFmd(fid, Fmd.Format.ANSI_378_2004).getData();
+    }
+
+    /**
+     * Converts a stored raw ANSI-381 image into template bytes, or null if the image cannot be imported.
+     */
+    public static byte[] templateFromStoredImage(byte[] imageData) {
+        try {
+            Fid storedFid = UareUGlobal.GetImporter().ImportFid(imageData, Fid.Format.ANSI_381_2004);
+            return extractTemplate(storedFid);
+        } catch (UareUException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds a comparable template from a row, preferring the stored FMD over the raw image.
+     */
+    public static FingerprintTemplate toTemplate(String idNumber, String name, String surname,
+            byte[] fmdData, String format, byte[] imageData) {
+        if (fmdData != null && FORMAT_TAG.equals(format)) {
+            try {
+                Fmd fmd = UareUGlobal.GetImporter().ImportFmd(fmdData, Fmd.Format.ANSI_378_2004, Fmd.Format.ANSI_378_2004);
+                return new FingerprintTemplate(idNumber, name, surname, fmd);
+            } catch (UareUException | RuntimeException e) {
+                System.err.println("⚠️ Stored template for " + idNumber + " is unreadable: " + e.getMessage());
+            }
+        }
+        if (imageData != null) {
+            return FingerprintTemplate.fromStoredImage(idNumber, name, surname, imageData);
+        }
+        return null;
+    }
+
+    /**
+     * Select-list fragment that only ships the raw image for rows that have no template yet.
+     */
+    public static String templateColumns() {
+        if (!templateColumnsPresent) {
+            return "NULL AS " + FMD_COLUMN + ", NULL AS " + FORMAT_COLUMN + ", FINGERPRINT";
+        }
+        return FMD_COLUMN + ", " + FORMAT_COLUMN + ", "
+                + "CASE WHEN " + FMD_COLUMN + " IS NULL THEN FINGERPRINT END AS FINGERPRINT";
+    }
+
+    /**
+     * Condition that holds for rows with an image or a template.
+     */
+    public static String hasFingerprintCondition() {
+        return templateColumnsPresent
+                ? "(FINGERPRINT IS NOT NULL OR " + FMD_COLUMN + " IS NOT NULL)"
+                : "FINGERPRINT IS NOT NULL";
+    }
+
+    /**
+     * Column list written by enrollment, bound by {@link #bind}.
+     */
+    public static String writeColumns() {
+        return templateColumnsPresent ? "FINGERPRINT, " + FMD_COLUMN + ", " + FORMAT_COLUMN : "FINGERPRINT";
+    }
+
+    /**
+     * SET list for updating the {@link #writeColumns()}, bound by {@link #bind}.
+     */
+    public static String writeAssignments() {
+        return templateColumnsPresent ? "FINGERPRINT = ?, " + FMD_COLUMN + " = ?, " + FORMAT_COLUMN + " = ?" : "FINGERPRINT = ?";
+    }
+
+    /**
+     * Placeholders matching {@link #writeColumns()}.
+     */
+    public static String writePlaceholders() {
+        return templateColumnsPresent ? "?, ?, ?" : "?";
+    }
+
+    /**
+     * Binds the {@link #writeColumns()} parameters from index according to the storage mode.
+     * Returns the next free parameter index.
+     */
+    public static int bind(PreparedStatement stmt, int index, byte[] fidData, byte[] fmdData) throws SQLException {
+        StorageMode mode = getStorageMode();
+        boolean storeTemplate = mode.storesTemplate() && fmdData != null;
+        // Never drop the image when there is no template to replace it
+        stmt.setBytes(index++, mode.storesImage() || !storeTemplate ? fidData : null);
+        if (templateColumnsPresent) {
+            stmt.setBytes(index++, storeTemplate ? fmdData : null);
+            stmt.setString(index++, storeTemplate ? FORMAT_TAG : null);
+        }
+        return index;
+    }
+
+    /**
+     * Select-list fragment for list views: a HAS_FINGERPRINT flag computed server-side,
+     * so no blob crosses the wire just to show whether one was captured.
+     */
+    public static String presenceColumn() {
+        return hasFingerprintCondition() + " AS HAS_FINGERPRINT";
+    }
+}
@@ -0,0 +1,39 @@
+package adminApp;
+
+import com.digitalpersona.uareu.Engine;
+import com.digitalpersona.uareu.Fmd;
+import com.digitalpersona.uareu.UareUException;
+import java.util.List;
+
+/**
+ * Strategy for 1:N fingerprint identification against a set of stored templates.
+ */
+public interface IdentificationEngine {
+
+    /**
+     * Dissimilarity score below which two fingerprints are treated as the same finger.
+     */
+    int DEFAULT_THRESHOLD = Engine.PROBABILITY_ONE / 100000;
+
+    /**
+     * Compares the probe against the templates. Stops at the first score under the
+     * threshold; otherwise reports the best (lowest) score seen.
+     */
+    default IdentificationResult identify(Fmd probe, List<FingerprintTemplate> templates, int threshold) throws UareUException {
+        return identify(probe, templates, threshold, 0);
+    }
+
+    /**
+     * Same as above, but gives up once budgetMillis has elapsed (0 means no limit).
+     * A result cut short by the budget reports isComplete() == false.
+     */
+    IdentificationResult identify(Fmd probe, List<FingerprintTemplate> templates, int threshold, long budgetMillis)
+            throws UareUException;
+
+    /**
+     * Engine used when callers do not plug in their own.
+     */
+    static IdentificationEngine defaultEngine() {
+        return ParallelIdentificationEngine.getShared();
+    }
+}
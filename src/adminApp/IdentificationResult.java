@@ -0,0 +1,62 @@
+package adminApp;
+
+/**
+ * Outcome of a 1:N identification: the best template found and its score.
+ */
+public class IdentificationResult {
+
+    private final FingerprintTemplate template;
+    private final int score;
+    private final boolean matched;
+    private final long comparisons;
+    private final long elapsedMillis;
+    private final boolean complete;
+
+    public IdentificationResult(FingerprintTemplate template, int score, boolean matched, long comparisons,
+            long elapsedMillis, boolean complete) {
+        this.template = template;
+        this.score = score;
+        this.matched = matched;
+        this.comparisons = comparisons;
+        this.elapsedMillis = elapsedMillis;
+        this.complete = complete;
+    }
+
+    /**
+     * The matching template, or the closest one when nothing passed the threshold (null if none compared).
+     */
+    public FingerprintTemplate getTemplate() {
+        return template;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public boolean isMatched() {
+        return matched;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * False when the time budget ran out before every template was compared and nothing matched.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public String toString() {
+        return (matched ? "match " : "no match ")
+                + (template != null ? template.getIdNumber() : "-")
+                + " score=" + score + " (" + comparisons + " comparisons in " + elapsedMillis + " ms"
+                + (complete ? "" : ", budget exhausted") + ")";
+    }
+}
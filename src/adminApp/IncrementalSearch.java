@@ -0,0 +1,229 @@
+package adminApp;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+/**
+ * Search-as-you-type for one dashboard search box.
+ * Keystrokes are debounced on the EDT. Every search gets a new generation, and starting one
+ * cancels the previous task and any statement it is still running. Results and errors from a
+ * superseded generation are dropped, so a slow query never overwrites newer results.
+ * A request's onEnd callback still runs when it is superseded, so UI it set up (e.g. a
+ * loading dialog) is always torn down.
+ */
+public class IncrementalSearch {
+
+    public static final int DEBOUNCE_MILLIS = Integer.getInteger("admin.search.debounceMillis", 300);
+
+    /**
+     * Background part of a search. Run statements on {@link Request#track(Connection)} so they can be cancelled.
+     */
+    public interface Query<T> {
+        T run(Request request) throws Exception;
+    }
+
+    private final ExecutorService executor;
+    private final AtomicLong generation = new AtomicLong();
+    private Request current;
+    private Timer debounce;
+
+    public IncrementalSearch(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the search once typing in the field pauses for {@link #DEBOUNCE_MILLIS}.
+     */
+    public void attach(JTextField field, Runnable search) {
+        debounce = new Timer(DEBOUNCE_MILLIS, e -> search.run());
+        debounce.setRepeats(false);
+        field.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                debounce.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                debounce.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
+    }
+
+    /**
+     * Starts a new generation, superseding whatever is pending or running.
+     * onResult and onError are called on the EDT, and only if no newer search has started.
+     */
+    public <T> void submit(Query<T> query, Consumer<T> onResult, Consumer<Exception> onError) {
+        submit(query, onResult, onError, null);
+    }
+
+    /**
+     * Like {@link #submit(Query, Consumer, Consumer)}, plus onEnd, called once on the EDT when
+     * the request finishes, fails or is superseded, before onResult/onError.
+     */
+    public <T> void submit(Query<T> query, Consumer<T> onResult, Consumer<Exception> onError, Runnable onEnd) {
+        Request request = supersede();
+        request.onEnd = onEnd;
+        request.future = executor.submit(() -> {
+            if (!request.isCurrent()) {
+                return;
+            }
+            try {
+                T result = query.run(request);
+                SwingUtilities.invokeLater(() -> {
+                    request.end();
+                    if (request.isCurrent()) {
+                        onResult.accept(result);
+                    }
+                });
+            } catch (Exception e) {
+                SwingUtilities.invokeLater(() -> {
+                    request.end();
+                    if (request.isCurrent()) {
+                        onError.accept(e);
+                    } else {
+                        System.out.println("🔎 Dropped error from superseded search: " + e.getMessage());
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Starts a new generation for work answered without the executor (e.g. from a local index).
+     * Still supersedes any in-flight query, so its late results are dropped.
+     */
+    public Request begin() {
+        return supersede();
+    }
+
+    /**
+     * Drops any pending keystrokes and in-flight search, e.g. when the box is cleared.
+     */
+    public void cancelPending() {
+        supersede();
+    }
+
+    private Request supersede() {
+        if (debounce != null) {
+            debounce.stop();
+        }
+        Request previous;
+        Request request;
+        synchronized (this) {
+            previous = current;
+            request = new Request(generation.incrementAndGet());
+            current = request;
+        }
+        if (previous != null) {
+            previous.cancel();
+        }
+        return request;
+    }
+
+    /**
+     * One generation of a search.
+     */
+    public final class Request {
+
+        private final long id;
+        private final List<Statement> statements = new ArrayList<>();
+        private volatile Future<?> future;
+        private volatile Runnable onEnd;
+        private final AtomicBoolean ended = new AtomicBoolean(false);
+
+        private Request(long id) {
+            this.id = id;
+        }
+
+        public boolean isCurrent() {
+            return generation.get() == id;
+        }
+
+        /**
+         * Wraps the connection so statements it creates are cancelled if this search is superseded.
+         */
+        public Connection track(Connection conn) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result;
+                        try {
+                            result = method.invoke(conn, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        if (result instanceof Statement) {
+                            register((Statement) result);
+                        }
+                        return result;
+                    });
+        }
+
+        private void register(Statement statement) {
+            synchronized (statements) {
+                statements.add(statement);
+            }
+            if (!isCurrent()) {
+                cancelStatement(statement);
+            }
+        }
+
+        private void end() {
+            Runnable callback = onEnd;
+            if (callback != null && ended.compareAndSet(false, true)) {
+                callback.run();
+            }
+        }
+
+        private void cancel() {
+            // On the EDT end now, so its teardown runs before whatever the new search sets up
+            if (SwingUtilities.isEventDispatchThread()) {
+                end();
+            } else {
+                SwingUtilities.invokeLater(this::end);
+            }
+            Future<?> task = future;
+            if (task != null) {
+                // Not interrupting: a running task is stopped through Statement.cancel() instead
+                task.cancel(false);
+            }
+            List<Statement> running;
+            synchronized (statements) {
+                running = new ArrayList<>(statements);
+            }
+            for (Statement statement : running) {
+                cancelStatement(statement);
+            }
+        }
+
+        private void cancelStatement(Statement statement) {
+            try {
+                if (!statement.isClosed()) {
+                    statement.cancel();
+                }
+            } catch (SQLException e) {
+                System.err.println("⚠️ Could not cancel superseded search: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package adminApp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Table model that reads cells straight from a {@link TableRowSource}.
+ * Replacing the rows fires a single change event instead of one per addRow, and
+ * JTable only asks for the cells it paints, so large results render immediately.
+ * Edits made in the table are kept as an overlay until the rows are replaced.
+ */
+public class LazyTableModel extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+    // Past this many rows a generic source is not diffed cell by cell; the table just rereads it
+    private static final int DIFF_ROW_LIMIT = Integer.getInteger("admin.table.diffRows", 2000);
+
+    private String[] columnNames;
+    private final BitSet editable = new BitSet();
+    private TableRowSource rows = TableRowSource.EMPTY;
+    // The list behind rows when they were set from one, to recognise the same list coming back
+    private List<?> rowList;
+    private final Map<Long, Object> edits = new HashMap<>();
+
+    public LazyTableModel(String[] columnNames, int... editableColumns) {
+        this.columnNames = columnNames.clone();
+        for (int column : editableColumns) {
+            editable.set(column);
+        }
+    }
+
+    /**
+     * Changes the headers; only fires a structure change when they actually differ.
+     */
+    public void setColumnNames(String[] names) {
+        if (!Arrays.equals(columnNames, names)) {
+            columnNames = names.clone();
+            fireTableStructureChanged();
+        }
+    }
+
+    public void setRows(TableRowSource source) {
+        rows = source == null ? TableRowSource.EMPTY : source;
+        rowList = null;
+        edits.clear();
+        fireTableDataChanged();
+    }
+
+    public void setRows(List<? extends List<?>> source) {
+        setRows(TableRowSource.of(source));
+        rowList = source;
+    }
+
+    /**
+     * Replaces the rows but only fires events for rows whose cells changed, plus the rows
+     * added or removed at the end, so selection and scroll position survive a refresh.
+     * Edits are dropped only if something changed. A source that is the current one,
+     * possibly changed in place, is treated like {@link #setRows(TableRowSource)}.
+     */
+    public void updateRows(TableRowSource source) {
+        TableRowSource next = source == null ? TableRowSource.EMPTY : source;
+        if (next == rows) {
+            setRows(next);
+            return;
+        }
+        TableRowSource previous = rows;
+        rows = next;
+        rowList = null;
+        fireRowChanges(previous, next);
+    }
+
+    public void updateRows(List<? extends List<?>> source) {
+        if (source == rowList) {
+            setRows(source);
+            return;
+        }
+        TableRowSource previous = rows;
+        rows = TableRowSource.of(source);
+        rowList = source;
+        fireRowChanges(previous, rows);
+    }
+
+    private void fireRowChanges(TableRowSource previous, TableRowSource next) {
+        int before = previous.getRowCount();
+        int after = next.getRowCount();
+
+        int common = Math.min(before, after);
+        BitSet changed = changedRows(previous, next, common);
+        if (changed == null) {
+            edits.clear();
+            fireTableDataChanged();
+            return;
+        }
+
+        // Runs of changed rows among those both sources have, one event per run
+        List<int[]> runs = new ArrayList<>();
+        for (int start = changed.nextSetBit(0); start >= 0; ) {
+            int end = changed.nextClearBit(start);
+            runs.add(new int[]{start, end - 1});
+            start = changed.nextSetBit(end);
+        }
+        if (runs.isEmpty() && before == after) {
+            return;
+        }
+
+        edits.clear();
+        for (int[] run : runs) {
+            fireTableRowsUpdated(run[0], run[1]);
+        }
+        if (after > before) {
+            fireTableRowsInserted(before, after - 1);
+        } else if (after < before) {
+            fireTableRowsDeleted(after, before - 1);
+        }
+    }
+
+    /**
+     * Rows below common that differ, or null when the sources are too large to compare
+     * on the EDT. Voter snapshots compare their packed columns, so they are always diffed.
+     */
+    private BitSet changedRows(TableRowSource previous, TableRowSource next, int common) {
+        if (previous instanceof VoterSnapshot && next instanceof VoterSnapshot) {
+            return VoterSnapshot.changedRows((VoterSnapshot) previous, (VoterSnapshot) next, common);
+        }
+        if (common > DIFF_ROW_LIMIT) {
+            return null;
+        }
+        BitSet changed = new BitSet();
+        for (int row = 0; row < common; row++) {
+            if (!sameRow(previous, next, row)) {
+                changed.set(row);
+            }
+        }
+        return changed;
+    }
+
+    private boolean sameRow(TableRowSource previous, TableRowSource next, int row) {
+        for (int column = 0; column < columnNames.length; column++) {
+            if (!Objects.equals(previous.getValueAt(row, column), next.getValueAt(row, column))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells the table that the current source grew in place past previousCount rows.
+     */
+    public void rowsAppended(int previousCount) {
+        int after = rows.getRowCount();
+        if (after > previousCount) {
+            fireTableRowsInserted(previousCount, after - 1);
+        } else if (after < previousCount) {
+            edits.clear();
+            fireTableDataChanged();
+        }
+    }
+
+    public void clear() {
+        setRows(TableRowSource.EMPTY);
+    }
+
+    public TableRowSource getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.getRowCount();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return editable.get(column);
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (!edits.isEmpty()) {
+            Long key = key(row, column);
+            if (edits.containsKey(key)) {
+                return edits.get(key);
+            }
+        }
+        return rows.getValueAt(row, column);
+    }
+
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        edits.put(key(row, column), value);
+        fireTableCellUpdated(row, column);
+    }
+
+    private static Long key(int row, int column) {
+        return ((long) row << 8) | column;
+    }
+}
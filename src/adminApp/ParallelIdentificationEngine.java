@@ -0,0 +1,155 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Identification that splits the template set across a ForkJoinPool.
+ * All workers stop as soon as any of them finds a score under the threshold.
+ */
+public class ParallelIdentificationEngine implements IdentificationEngine {
+
+    // Small sets (e.g. the admins) are cheaper to scan on the calling thread
+    private static final int SEQUENTIAL_CUTOFF = 256;
+    // Templates compared per leaf task
+    private static final int LEAF_SIZE = 512;
+    // How often a leaf looks at the clock when running under a budget
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private static ParallelIdentificationEngine shared;
+
+    private final ForkJoinPool pool;
+    private final SequentialIdentificationEngine sequential = new SequentialIdentificationEngine();
+
+    public ParallelIdentificationEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Engine backed by a pool with one worker per core, shared across the app.
+     */
+    public static synchronized ParallelIdentificationEngine getShared() {
+        if (shared == null) {
+            shared = new ParallelIdentificationEngine(new ForkJoinPool(Runtime.getRuntime().availableProcessors()));
+        }
+        return shared;
+    }
+
+    @Override
+    public IdentificationResult identify(Fmd probe, List<FingerprintTemplate> templates, int threshold, long budgetMillis)
+            throws UareUException {
+        if (templates.size() < SEQUENTIAL_CUTOFF) {
+            return sequential.identify(probe, templates, threshold, budgetMillis);
+        }
+
+        long start = System.currentTimeMillis();
+        FingerprintTemplate[] snapshot = templates.toArray(new FingerprintTemplate[0]);
+        long deadline = budgetMillis > 0 ? System.nanoTime() + budgetMillis * 1000000L : Long.MAX_VALUE;
+        Search search = new Search(probe, snapshot, threshold, deadline);
+        pool.invoke(new RangeTask(search, 0, snapshot.length));
+
+        if (search.error.get() != null) {
+            throw search.error.get();
+        }
+
+        long best = search.best.get();
+        long elapsed = System.currentTimeMillis() - start;
+        if (best == Long.MAX_VALUE) {
+            // Nothing was compared: every template lacked an FMD or the budget ran out first
+            return new IdentificationResult(null, Integer.MAX_VALUE, false,
+                    search.comparisons.get(), elapsed, !search.timedOut.get());
+        }
+
+        int bestScore = (int) (best >>> 32);
+        FingerprintTemplate bestTemplate = snapshot[(int) best];
+        boolean matched = bestScore < threshold;
+        return new IdentificationResult(bestTemplate, bestScore, matched,
+                search.comparisons.get(), elapsed, matched || !search.timedOut.get());
+    }
+
+    /**
+     * State shared by all tasks of one identification.
+     */
+    private static class Search {
+        final Fmd probe;
+        final FingerprintTemplate[] templates;
+        final int threshold;
+        final long deadlineNanos;
+        final AtomicBoolean found = new AtomicBoolean(false);
+        final AtomicBoolean timedOut = new AtomicBoolean(false);
+        final AtomicLong comparisons = new AtomicLong();
+        // Score in the high 32 bits, template index in the low 32, so min() keeps the best
+        final AtomicLong best = new AtomicLong(Long.MAX_VALUE);
+        final AtomicReference<UareUException> error = new AtomicReference<>();
+
+        Search(Fmd probe, FingerprintTemplate[] templates, int threshold, long deadlineNanos) {
+            this.probe = probe;
+            this.templates = templates;
+            this.threshold = threshold;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    private static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final int from;
+        private final int to;
+
+        RangeTask(Search search, int from, int to) {
+            this.search = search;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (search.found.get()) {
+                return;
+            }
+
+            if (to - from > LEAF_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RangeTask(search, from, mid), new RangeTask(search, mid, to));
+                return;
+            }
+
+            Engine engine = UareUGlobal.GetEngine();
+            long localBest = Long.MAX_VALUE;
+            long compared = 0;
+            try {
+                for (int i = from; i < to && !search.found.get(); i++) {
+                    Fmd storedFmd = search.templates[i].getFmd();
+                    if (storedFmd == null) continue;
+
+                    if (search.deadlineNanos != Long.MAX_VALUE && compared % DEADLINE_CHECK_INTERVAL == 0
+                            && System.nanoTime() > search.deadlineNanos) {
+                        search.timedOut.set(true);
+                        search.found.set(true);
+                        break;
+                    }
+
+                    int score = engine.Compare(search.probe, 0, storedFmd, 0);
+                    compared++;
+                    localBest = Math.min(localBest, ((long) score << 32) | i);
+                    if (score < search.threshold) {
+                        search.found.set(true);
+                    }
+                }
+            } catch (UareUException e) {
+                search.error.compareAndSet(null, e);
+                search.found.set(true);
+            } finally {
+                search.comparisons.addAndGet(compared);
+                final long candidate = localBest;
+                search.best.accumulateAndGet(candidate, Math::min);
+            }
+        }
+    }
+}
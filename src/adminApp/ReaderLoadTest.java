@@ -0,0 +1,183 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hardware-free benchmark of the SDK engine and {@link IdentificationEngine}.
+ * Each station drives its own {@link SimulatedReader} with a blocking Capture, extracts
+ * a template with the SDK engine and identifies it against an in-memory list. It does
+ * not go through CaptureThread, StreamingCaptureSession, VoterTemplateIndex or
+ * AdminTemplateCache, so it measures matching cost, not the AddVoters or
+ * AdminVerification paths end to end. The database is not touched.
+ *
+ * Usage: java adminApp.ReaderLoadTest [enrollments] [verifications] [stations]
+ * Reader behaviour is tuned with the admin.reader.sim.* properties.
+ */
+public class ReaderLoadTest {
+
+    private static final int MAX_CAPTURE_ATTEMPTS = 5;
+
+    private final int stations;
+    private final IdentificationEngine identificationEngine = IdentificationEngine.defaultEngine();
+    private final List<FingerprintTemplate> enrolled = new CopyOnWriteArrayList<>();
+    private final List<Long> enrollLatencies = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> verifyLatencies = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicInteger correct = new AtomicInteger();
+    private final AtomicInteger failedCaptures = new AtomicInteger();
+
+    public ReaderLoadTest(int stations) {
+        this.stations = stations;
+    }
+
+    public void run(int enrollments, int verifications) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(stations);
+        try {
+            long start = System.currentTimeMillis();
+            runPhase(pool, enrollments, this::enrollStation);
+            report("Enrollment", enrollLatencies, System.currentTimeMillis() - start);
+            System.out.println("   duplicates flagged=" + duplicates.get() + ", failed captures=" + failedCaptures.get());
+
+            failedCaptures.set(0);
+            start = System.currentTimeMillis();
+            runPhase(pool, verifications, this::verifyStation);
+            report("Verification", verifyLatencies, System.currentTimeMillis() - start);
+            System.out.println("   correct matches=" + correct.get() + "/" + verifyLatencies.size()
+                    + ", failed captures=" + failedCaptures.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private interface StationTask {
+        void run(SimulatedReader reader, int station, int count) throws Exception;
+    }
+
+    private void runPhase(ExecutorService pool, int total, StationTask task) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int station = 0; station < stations; station++) {
+            final int id = station;
+            final int count = total / stations + (station < total % stations ? 1 : 0);
+            futures.add(pool.submit(() -> {
+                SimulatedReader.Settings settings = new SimulatedReader.Settings();
+                settings.seed += id;
+                SimulatedReader reader = new SimulatedReader(settings);
+                reader.getReader().Open(Reader.Priority.COOPERATIVE);
+                try {
+                    task.run(reader, id, count);
+                } finally {
+                    reader.getReader().Close();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void enrollStation(SimulatedReader reader, int station, int count) throws UareUException, InterruptedException {
+        Engine engine = UareUGlobal.GetEngine();
+        for (int i = 0; i < count; i++) {
+            long finger = (long) i * stations + station;
+            long start = System.nanoTime();
+            Fid image = captureGood(reader, finger);
+            if (image == null) {
+                continue;
+            }
+
+            Fmd fmd = engine.CreateFmd(image, Fmd.Format.ANSI_378_2004);
+            IdentificationResult existing = identificationEngine.identify(
+                    fmd, enrolled, IdentificationEngine.DEFAULT_THRESHOLD);
+            if (existing.isMatched()) {
+                duplicates.incrementAndGet();
+            } else {
+                enrolled.add(new FingerprintTemplate(idFor(finger), "Sim", "Voter " + finger, fmd));
+            }
+            enrollLatencies.add((System.nanoTime() - start) / 1000000);
+        }
+    }
+
+    private void verifyStation(SimulatedReader reader, int station, int count) throws UareUException, InterruptedException {
+        Engine engine = UareUGlobal.GetEngine();
+        Random pick = new Random(station);
+        for (int i = 0; i < count && !enrolled.isEmpty(); i++) {
+            FingerprintTemplate target = enrolled.get(pick.nextInt(enrolled.size()));
+            long finger = Long.parseLong(target.getIdNumber().substring(3));
+            long start = System.nanoTime();
+            Fid image = captureGood(reader, finger);
+            if (image == null) {
+                continue;
+            }
+
+            Fmd probe = engine.CreateFmd(image, Fmd.Format.ANSI_378_2004);
+            IdentificationResult result = identificationEngine.identify(
+                    probe, enrolled, IdentificationEngine.DEFAULT_THRESHOLD);
+            if (result.isMatched() && target.getIdNumber().equals(result.getTemplate().getIdNumber())) {
+                correct.incrementAndGet();
+            }
+            verifyLatencies.add((System.nanoTime() - start) / 1000000);
+        }
+    }
+
+    /**
+     * Captures the given finger, retrying poor-quality frames like an operator would.
+     */
+    private Fid captureGood(SimulatedReader reader, long finger) throws UareUException {
+        for (int attempt = 0; attempt < MAX_CAPTURE_ATTEMPTS; attempt++) {
+            reader.setNextFinger(finger);
+            Reader.CaptureResult result = reader.getReader().Capture(
+                    Fid.Format.ANSI_381_2004, Reader.ImageProcessing.IMG_PROC_DEFAULT,
+                    SyntheticFingerprints.RESOLUTION_DPI, -1);
+            if (result.quality == Reader.CaptureQuality.GOOD) {
+                return result.image;
+            }
+        }
+        failedCaptures.incrementAndGet();
+        return null;
+    }
+
+    private static String idFor(long finger) {
+        return "SIM" + finger;
+    }
+
+    private static void report(String phase, List<Long> latencies, long elapsedMillis) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        if (sorted.isEmpty()) {
+            System.out.println("📊 " + phase + ": no samples");
+            return;
+        }
+        double perSecond = sorted.size() * 1000.0 / Math.max(1, elapsedMillis);
+        System.out.printf("📊 %s: %d ops in %d ms (%.1f/s), p50=%d ms, p95=%d ms, max=%d ms%n",
+                phase, sorted.size(), elapsedMillis, perSecond,
+                percentile(sorted, 50), percentile(sorted, 95), sorted.get(sorted.size() - 1));
+    }
+
+    private static long percentile(List<Long> sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+    }
+
+    public static void main(String[] args) {
+        int enrollments = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int verifications = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int stations = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        try {
+            new ReaderLoadTest(stations).run(enrollments, verifications);
+        } catch (Exception e) {
+            System.err.println("❌ Load test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Shared watcher of a reader's status.
+ * One poller per reader serves every waiter: it polls immediately, then backs off
+ * exponentially while the reader stays BUSY, and stops once nobody is waiting.
+ * Waiters can be cancelled at any time and return straight away.
+ */
+public class ReaderStatusMonitor {
+
+    // First retry after the immediate poll, doubling up to the cap while BUSY
+    private static final long INITIAL_BACKOFF_MILLIS = 2;
+    private static final long MAX_BACKOFF_MILLIS = 100;
+
+    private static final Map<Reader, ReaderStatusMonitor> MONITORS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Reader reader;
+    private final List<Subscription> waiters = new ArrayList<>();
+    private final Object lock = new Object();
+    private Thread poller;
+
+    private ReaderStatusMonitor(Reader reader) {
+        this.reader = reader;
+    }
+
+    public static ReaderStatusMonitor forReader(Reader reader) {
+        synchronized (MONITORS) {
+            return MONITORS.computeIfAbsent(reader, ReaderStatusMonitor::new);
+        }
+    }
+
+    /**
+     * A pending wait for the reader to leave the BUSY state.
+     */
+    public class Subscription {
+
+        private final CompletableFuture<Reader.Status> result = new CompletableFuture<>();
+
+        /**
+         * Blocks until the reader reports a non-BUSY status.
+         * Returns null if the subscription was cancelled.
+         */
+        public Reader.Status await() throws UareUException, InterruptedException {
+            try {
+                return result.get();
+            } catch (CancellationException e) {
+                return null;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof UareUException) {
+                    throw (UareUException) cause;
+                }
+                throw new IllegalStateException("Reader status poll failed", cause);
+            }
+        }
+
+        /**
+         * Releases the waiter immediately.
+         */
+        public void cancel() {
+            result.cancel(false);
+            synchronized (lock) {
+                waiters.remove(this);
+                lock.notifyAll();
+            }
+        }
+
+        public boolean isDone() {
+            return result.isDone();
+        }
+    }
+
+    /**
+     * Registers a waiter and makes sure the poller is running.
+     */
+    public Subscription subscribe() {
+        Subscription subscription = new Subscription();
+        synchronized (lock) {
+            waiters.add(subscription);
+            if (poller == null) {
+                poller = new Thread(this::pollLoop, "reader-status-monitor");
+                poller.setDaemon(true);
+                poller.start();
+            } else {
+                // Restart the backoff so a new waiter gets a tight first poll
+                lock.notifyAll();
+            }
+        }
+        return subscription;
+    }
+
+    private void pollLoop() {
+        long backoff = 0;
+        while (true) {
+            List<Subscription> current;
+            synchronized (lock) {
+                if (waiters.isEmpty()) {
+                    poller = null;
+                    return;
+                }
+                current = new ArrayList<>(waiters);
+            }
+
+            Reader.Status status;
+            try {
+                status = reader.GetStatus();
+            } catch (UareUException | RuntimeException e) {
+                complete(current, null, e);
+                continue;
+            }
+
+            if (Reader.ReaderStatus.BUSY != status.status) {
+                complete(current, status, null);
+                backoff = 0;
+                continue;
+            }
+
+            backoff = backoff == 0 ? INITIAL_BACKOFF_MILLIS : Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            synchronized (lock) {
+                if (waiters.size() == current.size()) {
+                    try {
+                        lock.wait(backoff);
+                    } catch (InterruptedException e) {
+                        // Exit rather than loop: with the flag set every later wait would throw at once.
+                        // Fail everyone still waiting; the next subscribe() starts a fresh poller.
+                        List<Subscription> failed = new ArrayList<>(waiters);
+                        poller = null;
+                        complete(failed, null, new IllegalStateException("Reader status monitor interrupted"));
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (waiters.size() > current.size()) {
+                    backoff = 0;
+                }
+            }
+        }
+    }
+
+    private void complete(List<Subscription> served, Reader.Status status, Throwable error) {
+        synchronized (lock) {
+            waiters.removeAll(served);
+        }
+        for (Subscription subscription : served) {
+            if (error != null) {
+                subscription.result.completeExceptionally(error);
+            } else {
+                subscription.result.complete(status);
+            }
+        }
+    }
+}
@@ -16,6 +16,9 @@ public class Selection {
      * @return The first Reader found, or null if no readers are detected.
      */
     public static Reader Select(ReaderCollection collection) {
+        if (SimulatedReader.isEnabled()) {
+            return simulatedReader();
+        }
         try {
             // Refresh the list of connected readers
             collection.GetReaders();
@@ -32,4 +35,22 @@ public class Selection {
             return null;
         }
     }
+
+    private static SimulatedReader simulated;
+
+    /**
+     * Returns the shared simulated reader used when -Dadmin.reader.simulated=true.
+     */
+    public static synchronized Reader simulatedReader() {
+        if (simulated == null) {
+            try {
+                simulated = new SimulatedReader(new SimulatedReader.Settings());
+                System.out.println("🧪 Using simulated fingerprint reader");
+            } catch (java.io.IOException e) {
+                System.err.println("Error starting simulated reader: " + e.getMessage());
+                return null;
+            }
+        }
+        return simulated.getReader();
+    }
 }
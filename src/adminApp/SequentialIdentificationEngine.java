@@ -0,0 +1,46 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.util.List;
+
+/**
+ * Single-threaded identification, one comparison after another.
+ */
+public class SequentialIdentificationEngine implements IdentificationEngine {
+
+    @Override
+    public IdentificationResult identify(Fmd probe, List<FingerprintTemplate> templates, int threshold, long budgetMillis)
+            throws UareUException {
+        long start = System.currentTimeMillis();
+        long deadline = budgetMillis > 0 ? start + budgetMillis : Long.MAX_VALUE;
+        boolean complete = true;
+        Engine engine = UareUGlobal.GetEngine();
+
+        FingerprintTemplate best = null;
+        int bestScore = Integer.MAX_VALUE;
+        long comparisons = 0;
+
+        for (FingerprintTemplate template : templates) {
+            if (System.currentTimeMillis() > deadline) {
+                complete = false;
+                break;
+            }
+            Fmd storedFmd = template.getFmd();
+            if (storedFmd == null) continue;
+
+            int score = engine.Compare(probe, 0, storedFmd, 0);
+            comparisons++;
+            if (score < bestScore) {
+                bestScore = score;
+                best = template;
+            }
+            if (score < threshold) {
+                break;
+            }
+        }
+
+        boolean matched = bestScore < threshold;
+        return new IdentificationResult(best, bestScore, matched, comparisons,
+                System.currentTimeMillis() - start, complete || matched);
+    }
+}
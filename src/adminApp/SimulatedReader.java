@@ -0,0 +1,224 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Software stand-in for a U.are.U reader so capture, enrollment and verification
+ * can be exercised without hardware. Frames are either replayed from recorded
+ * ANSI-381 files or generated by {@link SyntheticFingerprints}, with configurable
+ * latency, rate and quality mix.
+ *
+ * Enabled for the whole app with -Dadmin.reader.simulated=true (see {@link Selection}).
+ */
+public class SimulatedReader implements InvocationHandler {
+
+    private static final Reader.CaptureQuality[] POOR_QUALITIES = {
+        Reader.CaptureQuality.FINGER_TOO_LEFT, Reader.CaptureQuality.FINGER_TOO_HIGH,
+        Reader.CaptureQuality.SCAN_SKEWED, Reader.CaptureQuality.FINGER_OFF_CENTER
+    };
+
+    /**
+     * Simulation knobs, read from admin.reader.sim.* system properties by default.
+     */
+    public static class Settings {
+        public String replayDirectory = System.getProperty("admin.reader.sim.replayDir");
+        public int population = Integer.getInteger("admin.reader.sim.population", 1000);
+        public long latencyMillis = Long.getLong("admin.reader.sim.latencyMillis", 300);
+        public long jitterMillis = Long.getLong("admin.reader.sim.jitterMillis", 100);
+        public double goodRatio = Double.parseDouble(System.getProperty("admin.reader.sim.goodRatio", "0.9"));
+        public double capturesPerSecond = Double.parseDouble(System.getProperty("admin.reader.sim.rate", "0"));
+        public long liftMillis = Long.getLong("admin.reader.sim.liftMillis", 150);
+        public long seed = Long.getLong("admin.reader.sim.seed", 42);
+    }
+
+    private final Settings settings;
+    private final Random random;
+    private final List<byte[]> recordings = new ArrayList<>();
+    private final Reader proxy;
+    private final Object captureLock = new Object();
+
+    private volatile boolean open = false;
+    private boolean cancelRequested = false;
+    private long nextCaptureAllowedAt = 0;
+    private volatile long fingerDownUntil = 0;
+    private volatile long nextFinger = -1;
+    private volatile long lastFinger = -1;
+
+    public SimulatedReader(Settings settings) throws IOException {
+        this.settings = settings;
+        this.random = new Random(settings.seed);
+        loadRecordings();
+        this.proxy = (Reader) Proxy.newProxyInstance(
+                Reader.class.getClassLoader(), new Class<?>[]{Reader.class}, this);
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("admin.reader.simulated");
+    }
+
+    public Reader getReader() {
+        return proxy;
+    }
+
+    /**
+     * Makes the next capture present the given finger instead of a random one.
+     */
+    public void setNextFinger(long finger) {
+        nextFinger = finger;
+    }
+
+    public long getLastFinger() {
+        return lastFinger;
+    }
+
+    public int getPopulation() {
+        return recordings.isEmpty() ? settings.population : recordings.size();
+    }
+
+    private void loadRecordings() throws IOException {
+        if (settings.replayDirectory == null) {
+            return;
+        }
+        File[] files = new File(settings.replayDirectory).listFiles(File::isFile);
+        if (files == null) {
+            throw new IOException("Replay directory not found: " + settings.replayDirectory);
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            recordings.add(Files.readAllBytes(file.toPath()));
+        }
+        System.out.println("🎞️ Simulated reader replaying " + recordings.size() + " recorded fingerprints");
+    }
+
+    @Override
+    public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "Open":
+                open = true;
+                return null;
+            case "Close":
+                open = false;
+                cancelCapture();
+                return null;
+            case "GetDescription":
+                Reader.Description description = new Reader.Description();
+                description.name = "Simulated reader";
+                return description;
+            case "GetCapabilities":
+                Reader.Capabilities caps = new Reader.Capabilities();
+                caps.can_capture_image = true;
+                caps.can_stream = true;
+                caps.resolutions = new int[]{SyntheticFingerprints.RESOLUTION_DPI};
+                return caps;
+            case "GetStatus":
+                Reader.Status status = new Reader.Status();
+                status.status = open ? Reader.ReaderStatus.READY : Reader.ReaderStatus.FAILURE;
+                status.finger_detected = System.currentTimeMillis() < fingerDownUntil;
+                return status;
+            case "Capture":
+            case "GetStreamImage":
+                return capture();
+            case "CancelCapture":
+            case "StopStreaming":
+                cancelCapture();
+                return null;
+            case "equals":
+                return self == args[0];
+            case "hashCode":
+                return System.identityHashCode(self);
+            case "toString":
+                return "SimulatedReader[population=" + getPopulation() + "]";
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private Reader.CaptureResult capture() throws UareUException, InterruptedException {
+        Reader.CaptureResult result = new Reader.CaptureResult();
+        if (!waitForTouch()) {
+            result.quality = Reader.CaptureQuality.CANCELED;
+            return result;
+        }
+
+        double roll;
+        long finger;
+        long noiseSeed;
+        synchronized (random) {
+            roll = random.nextDouble();
+            finger = nextFinger >= 0 ? nextFinger : random.nextInt(getPopulation());
+            noiseSeed = random.nextLong();
+        }
+        nextFinger = -1;
+        lastFinger = finger;
+        fingerDownUntil = System.currentTimeMillis() + settings.liftMillis;
+
+        if (roll >= settings.goodRatio) {
+            result.quality = POOR_QUALITIES[(int) (roll * 1000) % POOR_QUALITIES.length];
+            return result;
+        }
+
+        // Drawn from the seeded generator so a run with the same seed replays the same impressions
+        Random noise = new Random(noiseSeed);
+        byte[] record = recordings.isEmpty()
+                ? SyntheticFingerprints.impression(finger, noise)
+                : recordings.get((int) (finger % recordings.size()));
+        result.image = UareUGlobal.GetImporter().ImportFid(record, Fid.Format.ANSI_381_2004);
+        result.quality = Reader.CaptureQuality.GOOD;
+        result.score = 80;
+        return result;
+    }
+
+    /**
+     * Sleeps for the simulated latency and rate limit. Returns false if the capture was cancelled.
+     */
+    private boolean waitForTouch() throws InterruptedException {
+        synchronized (captureLock) {
+            cancelRequested = false;
+            long now = System.currentTimeMillis();
+            long jitter;
+            synchronized (random) {
+                jitter = settings.jitterMillis > 0 ? (long) (random.nextDouble() * settings.jitterMillis) : 0;
+            }
+            long readyAt = Math.max(now + settings.latencyMillis + jitter, nextCaptureAllowedAt);
+            if (settings.capturesPerSecond > 0) {
+                nextCaptureAllowedAt = readyAt + (long) (1000 / settings.capturesPerSecond);
+            }
+
+            long remaining;
+            while (!cancelRequested && (remaining = readyAt - System.currentTimeMillis()) > 0) {
+                captureLock.wait(remaining);
+            }
+            return !cancelRequested;
+        }
+    }
+
+    private void cancelCapture() {
+        synchronized (captureLock) {
+            cancelRequested = true;
+            captureLock.notifyAll();
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
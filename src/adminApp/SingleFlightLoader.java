@@ -0,0 +1,71 @@
+package adminApp;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces concurrent loads of the same key: while a load is in flight, further
+ * requests for that key get the same future instead of starting another query.
+ * The key leaves the in-flight map as soon as the load finishes, so later
+ * requests start a fresh load.
+ */
+public class SingleFlightLoader<K, V> {
+
+    /**
+     * The work done once per flight.
+     */
+    public interface Loader<V> {
+        V load() throws Exception;
+    }
+
+    private final Executor executor;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public SingleFlightLoader(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Joins the in-flight load for the key, or starts one on the executor.
+     */
+    public CompletableFuture<V> load(K key, Loader<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+
+        started.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                V result;
+                try {
+                    result = loader.load();
+                } catch (Throwable e) {
+                    inFlight.remove(key, flight);
+                    flight.completeExceptionally(e);
+                    return;
+                }
+                inFlight.remove(key, flight);
+                flight.complete(result);
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+        return flight;
+    }
+
+    /**
+     * Loads started versus requests that joined one already running.
+     */
+    public String describe() {
+        return started.get() + " loads, " + coalesced.get() + " coalesced";
+    }
+}
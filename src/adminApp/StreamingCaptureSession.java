@@ -0,0 +1,183 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long-lived capture session for busy enrollment stations.
+ * The reader is opened once and frames are pulled continuously (streaming when the
+ * reader supports it, back-to-back captures otherwise). Only GOOD frames are queued,
+ * one per touch: after a frame is accepted the finger has to be lifted before the
+ * next one counts.
+ */
+public class StreamingCaptureSession {
+
+    // How often lift detection re-checks the reader while a finger is still down
+    private static final long LIFT_POLL_MILLIS = 20;
+    // Back-off after a reader error before trying again
+    private static final long ERROR_BACKOFF_MILLIS = 500;
+
+    private final Reader reader;
+    private final Fid.Format format;
+    private final Reader.ImageProcessing processing;
+    private final BlockingQueue<Reader.CaptureResult> frames;
+
+    private volatile boolean running = false;
+    private boolean streaming = false;
+    private Thread worker;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public StreamingCaptureSession(Reader reader, int queueCapacity, Fid.Format format, Reader.ImageProcessing processing) {
+        this.reader = reader;
+        this.format = format;
+        this.processing = processing;
+        this.frames = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Opens the reader and starts pulling frames in the background.
+     */
+    public synchronized void start() throws UareUException {
+        if (running) {
+            return;
+        }
+        reader.Open(Reader.Priority.COOPERATIVE);
+        Reader.Capabilities caps = reader.GetCapabilities();
+        streaming = caps != null && caps.can_stream;
+        if (streaming) {
+            try {
+                reader.StartStreaming();
+            } catch (UareUException e) {
+                System.out.println("⚠️ Reader refused streaming, falling back to repeated capture: " + e.getMessage());
+                streaming = false;
+            }
+        }
+
+        running = true;
+        worker = new Thread(this::captureLoop, "streaming-capture");
+        worker.setDaemon(true);
+        worker.start();
+        System.out.println("🔴 Capture session started (" + (streaming ? "streaming" : "repeated capture") + ")");
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Waits up to the given time for the next GOOD frame. Returns null on timeout.
+     */
+    public Reader.CaptureResult take(long timeoutMillis) throws InterruptedException {
+        return frames.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Discards frames captured before the current enrollment started.
+     */
+    public void drain() {
+        frames.clear();
+    }
+
+    /**
+     * Stops capturing and closes the reader.
+     */
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            if (streaming) {
+                reader.StopStreaming();
+            } else {
+                reader.CancelCapture();
+            }
+        } catch (UareUException ignored) {
+        }
+
+        if (worker != null) {
+            try {
+                worker.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            reader.Close();
+        } catch (UareUException ignored) {
+        }
+        frames.clear();
+        System.out.println("⏹️ Capture session closed: " + getStatus());
+    }
+
+    public String getStatus() {
+        return "accepted=" + accepted.get() + ", rejected=" + rejected.get() + ", dropped=" + dropped.get();
+    }
+
+    private void captureLoop() {
+        int resolution = reader.GetCapabilities().resolutions[0];
+        boolean awaitingLift = false;
+
+        while (running) {
+            try {
+                if (awaitingLift) {
+                    if (fingerStillDown()) {
+                        Thread.sleep(LIFT_POLL_MILLIS);
+                        continue;
+                    }
+                    awaitingLift = false;
+                }
+
+                Reader.CaptureResult result = streaming
+                        ? reader.GetStreamImage(format, processing, resolution)
+                        : reader.Capture(format, processing, resolution, -1);
+                if (!running || result == null) {
+                    continue;
+                }
+
+                if (result.quality == Reader.CaptureQuality.GOOD && result.image != null) {
+                    publish(result);
+                    awaitingLift = true;
+                } else if (result.quality != Reader.CaptureQuality.NO_FINGER
+                        && result.quality != Reader.CaptureQuality.CANCELED) {
+                    rejected.incrementAndGet();
+                }
+            } catch (UareUException e) {
+                if (!running) {
+                    break;
+                }
+                System.err.println("⚠️ Capture session read failed: " + e.getMessage());
+                try {
+                    Thread.sleep(ERROR_BACKOFF_MILLIS);
+                } catch (InterruptedException ie) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    private boolean fingerStillDown() throws UareUException {
+        return reader.GetStatus().finger_detected;
+    }
+
+    /**
+     * Queues a frame, dropping the oldest one if the consumer has fallen behind.
+     */
+    private void publish(Reader.CaptureResult result) {
+        while (!frames.offer(result)) {
+            if (frames.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+        accepted.incrementAndGet();
+    }
+}
@@ -0,0 +1,142 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+/**
+ * Generates synthetic ANSI-381 fingerprint images for load testing.
+ * Each finger number produces the same ridge pattern every time; every impression
+ * adds its own shift and noise, like a real finger placed twice on a reader.
+ */
+public class SyntheticFingerprints {
+
+    public static final int WIDTH = 320;
+    public static final int HEIGHT = 360;
+    public static final int RESOLUTION_DPI = 500;
+
+    private static final int GENERAL_HEADER_LENGTH = 36;
+    private static final int FINGER_HEADER_LENGTH = 14;
+    // Right index finger, as enrolled at the stations
+    private static final int FINGER_POSITION = 2;
+    private static final int MAX_SHIFT_PIXELS = 6;
+
+    private SyntheticFingerprints() {
+    }
+
+    /**
+     * Builds one impression of the given synthetic finger as raw ANSI-381-2004 record bytes.
+     */
+    public static byte[] impression(long finger, Random noise) {
+        byte[] pixels = renderPixels(finger, noise);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(GENERAL_HEADER_LENGTH + FINGER_HEADER_LENGTH + pixels.length);
+        int recordLength = GENERAL_HEADER_LENGTH + FINGER_HEADER_LENGTH + pixels.length;
+
+        // General record header
+        writeAscii(out, "FIR\0");
+        writeAscii(out, "010\0");
+        writeInt(out, recordLength, 6);
+        writeInt(out, 0, 4);                // CBEFF product identifier
+        writeInt(out, 0, 2);                // Capture device identifier
+        writeInt(out, 31, 2);               // Image acquisition level
+        writeInt(out, 1, 1);                // Number of fingers
+        writeInt(out, 1, 1);                // Scale units: pixels per inch
+        writeInt(out, RESOLUTION_DPI, 2);   // Horizontal scan resolution
+        writeInt(out, RESOLUTION_DPI, 2);   // Vertical scan resolution
+        writeInt(out, RESOLUTION_DPI, 2);   // Horizontal image resolution
+        writeInt(out, RESOLUTION_DPI, 2);   // Vertical image resolution
+        writeInt(out, 8, 1);                // Pixel depth
+        writeInt(out, 0, 1);                // Uncompressed
+        writeInt(out, 0, 2);                // Reserved
+
+        // Finger image record header
+        writeInt(out, FINGER_HEADER_LENGTH + pixels.length, 4);
+        writeInt(out, FINGER_POSITION, 1);
+        writeInt(out, 1, 1);                // Count of views
+        writeInt(out, 1, 1);                // View number
+        writeInt(out, 80, 1);               // Image quality
+        writeInt(out, 0, 1);                // Live-scan plain impression
+        writeInt(out, WIDTH, 2);
+        writeInt(out, HEIGHT, 2);
+        writeInt(out, 0, 1);                // Reserved
+
+        out.write(pixels, 0, pixels.length);
+        return out.toByteArray();
+    }
+
+    /**
+     * Builds one impression and imports it through the SDK so it can be captured or compared.
+     */
+    public static Fid impressionFid(long finger, Random noise) throws UareUException {
+        return UareUGlobal.GetImporter().ImportFid(impression(finger, noise), Fid.Format.ANSI_381_2004);
+    }
+
+    /**
+     * Ridge flow around a seeded core point, with seeded phase bumps standing in for minutiae.
+     */
+    private static byte[] renderPixels(long finger, Random noise) {
+        Random shape = new Random(finger * 0x9E3779B97F4A7C15L + 17);
+        double coreX = WIDTH * (0.4 + 0.2 * shape.nextDouble());
+        double coreY = HEIGHT * (0.35 + 0.2 * shape.nextDouble());
+        double baseAngle = shape.nextDouble() * Math.PI;
+        double period = 8 + 3 * shape.nextDouble();
+
+        int bumps = 30 + shape.nextInt(20);
+        double[] bumpX = new double[bumps];
+        double[] bumpY = new double[bumps];
+        double[] bumpPhase = new double[bumps];
+        for (int i = 0; i < bumps; i++) {
+            bumpX[i] = WIDTH * shape.nextDouble();
+            bumpY[i] = HEIGHT * shape.nextDouble();
+            bumpPhase[i] = (shape.nextBoolean() ? 1 : -1) * Math.PI;
+        }
+
+        int shiftX = noise.nextInt(2 * MAX_SHIFT_PIXELS + 1) - MAX_SHIFT_PIXELS;
+        int shiftY = noise.nextInt(2 * MAX_SHIFT_PIXELS + 1) - MAX_SHIFT_PIXELS;
+
+        byte[] pixels = new byte[WIDTH * HEIGHT];
+        double radiusX = WIDTH * 0.45;
+        double radiusY = HEIGHT * 0.47;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                double px = x - shiftX;
+                double py = y - shiftY;
+                double ex = (px - WIDTH / 2.0) / radiusX;
+                double ey = (py - HEIGHT / 2.0) / radiusY;
+                if (ex * ex + ey * ey > 1) {
+                    pixels[y * WIDTH + x] = (byte) 255;
+                    continue;
+                }
+
+                double angle = baseAngle + 0.5 * Math.atan2(py - coreY, px - coreX);
+                double along = px * Math.cos(angle) + py * Math.sin(angle);
+                double phase = 2 * Math.PI * along / period;
+                for (int i = 0; i < bumps; i++) {
+                    double dx = px - bumpX[i];
+                    double dy = py - bumpY[i];
+                    double d2 = dx * dx + dy * dy;
+                    if (d2 < 400) {
+                        phase += bumpPhase[i] * (1 - d2 / 400);
+                    }
+                }
+
+                double value = 128 + 110 * Math.sin(phase) + noise.nextGaussian() * 12;
+                pixels[y * WIDTH + x] = (byte) Math.max(0, Math.min(255, (int) value));
+            }
+        }
+        return pixels;
+    }
+
+    private static void writeAscii(ByteArrayOutputStream out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            out.write(text.charAt(i));
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, long value, int bytes) {
+        for (int i = bytes - 1; i >= 0; i--) {
+            out.write((int) (value >>> (8 * i)) & 0xFF);
+        }
+    }
+}
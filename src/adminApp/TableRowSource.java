@@ -0,0 +1,36 @@
+package adminApp;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Read-only rows behind a {@link LazyTableModel}.
+ * Values are asked for one cell at a time, so a source can compute them on demand
+ * instead of holding a boxed object per cell.
+ */
+public interface TableRowSource {
+
+    TableRowSource EMPTY = of(Collections.<List<Object>>emptyList());
+
+    int getRowCount();
+
+    Object getValueAt(int row, int column);
+
+    /**
+     * Wraps rows that are already materialized, e.g. a query result.
+     */
+    static TableRowSource of(List<? extends List<?>> rows) {
+        return new TableRowSource() {
+            @Override
+            public int getRowCount() {
+                return rows.size();
+            }
+
+            @Override
+            public Object getValueAt(int row, int column) {
+                List<?> values = rows.get(row);
+                return column < values.size() ? values.get(column) : null;
+            }
+        };
+    }
+}
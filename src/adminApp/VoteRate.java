@@ -0,0 +1,137 @@
+package adminApp;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Votes per hour for today, kept in hourly buckets.
+ *
+ * Day and hour boundaries are precomputed as half-open [start, end) timestamp ranges,
+ * so every query is a range seek on vote_timestamp rather than DATE(vote_timestamp) = CURDATE().
+ * The index is a deployment prerequisite, see sql/002_votes_timestamp_index.sql.
+ * Finished hours are fetched once; later refreshes only re-read the open hour (plus the
+ * previous one until late commits have settled) and the rolling last hour.
+ * The clock, today and the current hour come from the database (NOW(), CURDATE()), like
+ * {@link VoteTally}, so "today" means the same thing here as in the vote totals whatever
+ * the station's time zone.
+ */
+public class VoteRate {
+
+    private static final VoteRate INSTANCE = new VoteRate();
+
+    public static final int HOURS_PER_DAY = 24;
+
+    // An hour's bucket is final this long after the hour ends
+    private static final long SETTLE_MILLIS = Long.getLong("admin.voteRate.settleMillis", 60000);
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
+
+    private static final String CLOCK_SQL = "SELECT NOW() AS now, TIMESTAMP(CURDATE()) AS today, HOUR(NOW()) AS hour";
+
+    // Distinct voters per hour in [from, to), plus the rolling last hour as hour -1
+    private static final String BUCKETS_SQL =
+            "SELECT HOUR(vote_timestamp) AS hour, COUNT(DISTINCT voter_id_number) AS voters "
+            + "FROM Votes WHERE vote_timestamp >= ? AND vote_timestamp < ? GROUP BY HOUR(vote_timestamp) "
+            + "UNION ALL SELECT -1, COUNT(DISTINCT voter_id_number) "
+            + "FROM Votes WHERE vote_timestamp >= ? AND vote_timestamp < ?";
+
+    // Start of the database's current day
+    private Timestamp day;
+    private final int[] hourly = new int[HOURS_PER_DAY];
+    // Hours before this index are final and not queried again
+    private int settledHours = 0;
+    private int lastHour = 0;
+
+    private VoteRate() {
+    }
+
+    public static VoteRate getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start of an hour of the day; the hour's range is [hourStart(d, h), hourStart(d, h + 1))
+     * and the day's is [hourStart(d, 0), hourStart(d, 24)).
+     */
+    private static Timestamp hourStart(Timestamp dayStart, int hour) {
+        return new Timestamp(dayStart.getTime() + hour * HOUR_MILLIS);
+    }
+
+    /**
+     * Re-reads the buckets that may still change.
+     */
+    public synchronized void refresh(Connection conn) throws SQLException {
+        Timestamp now;
+        Timestamp today;
+        int openHour;
+        try (PreparedStatement stmt = conn.prepareStatement(CLOCK_SQL); ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            now = rs.getTimestamp("now");
+            today = rs.getTimestamp("today");
+            openHour = Math.min(rs.getInt("hour"), HOURS_PER_DAY - 1);
+        }
+        if (!today.equals(day)) {
+            day = today;
+            Arrays.fill(hourly, 0);
+            settledHours = 0;
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(BUCKETS_SQL)) {
+            stmt.setTimestamp(1, hourStart(day, settledHours));
+            stmt.setTimestamp(2, hourStart(day, openHour + 1));
+            stmt.setTimestamp(3, new Timestamp(now.getTime() - HOUR_MILLIS));
+            stmt.setTimestamp(4, now);
+            try (ResultSet rs = stmt.executeQuery()) {
+                for (int hour = settledHours; hour <= openHour; hour++) {
+                    hourly[hour] = 0;
+                }
+                while (rs.next()) {
+                    int hour = rs.getInt("hour");
+                    if (hour < 0) {
+                        lastHour = rs.getInt("voters");
+                    } else if (hour < HOURS_PER_DAY) {
+                        hourly[hour] = rs.getInt("voters");
+                    }
+                }
+            }
+        }
+
+        // Hours that ended more than SETTLE_MILLIS ago won't change any more
+        while (settledHours < openHour) {
+            Timestamp hourEnd = hourStart(day, settledHours + 1);
+            if (now.getTime() < hourEnd.getTime() + SETTLE_MILLIS) {
+                break;
+            }
+            settledHours++;
+        }
+    }
+
+    /**
+     * Distinct voters in the 60 minutes up to the last refresh.
+     */
+    public synchronized int getLastHour() {
+        return lastHour;
+    }
+
+    /**
+     * One-line summary of the hours that had votes, e.g. "08h 12 · 09h 40 | last hour 52".
+     */
+    public synchronized String describe() {
+        StringBuilder text = new StringBuilder();
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            if (hourly[hour] > 0) {
+                if (text.length() > 0) {
+                    text.append(" · ");
+                }
+                text.append(String.format("%02dh %d", hour, hourly[hour]));
+            }
+        }
+        if (text.length() == 0) {
+            text.append("no votes yet today");
+        }
+        return text.append(" | last hour ").append(lastHour).toString();
+    }
+}
@@ -0,0 +1,265 @@
+package adminApp;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Pre-aggregated vote counters so dashboards read O(parties) numbers instead of
+ * running COUNT(DISTINCT voter_id_number) over the whole Votes table.
+ *
+ * Keeps distinct-voter counts per (category, party), per party across categories
+ * and per party for today. Votes are written by the voting app, so new ones are picked
+ * up by tailing Votes past a vote_timestamp watermark. Each delta query only touches
+ * rows newer than the watermark (plus an index probe per new row to skip voters already
+ * counted). A full recount runs on first use, every admin.tally.reconcileMillis, at
+ * midnight, and after admin deletions, correcting late-committed rows the tail missed.
+ * Both rely on the vote_timestamp index from sql/002_votes_timestamp_index.sql.
+ *
+ * Party and category names are looked up through {@link #key(String)}, which matches them the
+ * way the old SQL join did under the column collation (case-insensitive, trailing spaces ignored).
+ */
+public class VoteTally {
+
+    private static final VoteTally INSTANCE = new VoteTally();
+
+    // Minimum gap between delta queries; reads in between use the current counters
+    private static final long POLL_MILLIS = Long.getLong("admin.tally.pollMillis", 1000);
+    private static final long RECONCILE_MILLIS = Long.getLong("admin.tally.reconcileMillis", 10 * 60 * 1000);
+    // Votes newer than this are left for the next poll so in-flight inserts can commit
+    private static final int SETTLE_SECONDS = Integer.getInteger("admin.tally.settleSeconds", 2);
+
+    private static final String BOUNDARY_SQL = "SELECT NOW() - INTERVAL ? SECOND AS boundary, "
+            + "TIMESTAMP(CURDATE()) AS today";
+
+    private static final String RECOUNT_SQL =
+            "SELECT 'C' AS level, category, party_name, COUNT(DISTINCT voter_id_number) AS voters "
+            + "FROM Votes WHERE vote_timestamp <= ? GROUP BY category, party_name "
+            + "UNION ALL SELECT 'P', NULL, party_name, COUNT(DISTINCT voter_id_number) "
+            + "FROM Votes WHERE vote_timestamp <= ? GROUP BY party_name "
+            + "UNION ALL SELECT 'T', NULL, party_name, COUNT(DISTINCT voter_id_number) "
+            + "FROM Votes WHERE vote_timestamp >= ? AND vote_timestamp <= ? GROUP BY party_name";
+
+    // New distinct voters in (watermark, boundary]: rows in the window whose voter had no earlier counted vote
+    private static final String DELTA_SQL =
+            "SELECT 'C' AS level, n.category, n.party_name, COUNT(DISTINCT n.voter_id_number) AS voters "
+            + "FROM Votes n WHERE n.vote_timestamp > ? AND n.vote_timestamp <= ? AND NOT EXISTS "
+            + "(SELECT 1 FROM Votes o WHERE o.voter_id_number = n.voter_id_number AND o.party_name = n.party_name "
+            + "AND o.category = n.category AND o.vote_timestamp <= ?) "
+            + "GROUP BY n.category, n.party_name "
+            + "UNION ALL SELECT 'P', NULL, n.party_name, COUNT(DISTINCT n.voter_id_number) "
+            + "FROM Votes n WHERE n.vote_timestamp > ? AND n.vote_timestamp <= ? AND NOT EXISTS "
+            + "(SELECT 1 FROM Votes o WHERE o.voter_id_number = n.voter_id_number AND o.party_name = n.party_name "
+            + "AND o.vote_timestamp <= ?) "
+            + "GROUP BY n.party_name "
+            + "UNION ALL SELECT 'T', NULL, n.party_name, COUNT(DISTINCT n.voter_id_number) "
+            + "FROM Votes n WHERE n.vote_timestamp > ? AND n.vote_timestamp <= ? AND n.vote_timestamp >= ? AND NOT EXISTS "
+            + "(SELECT 1 FROM Votes o WHERE o.voter_id_number = n.voter_id_number AND o.party_name = n.party_name "
+            + "AND o.vote_timestamp >= ? AND o.vote_timestamp <= ?) "
+            + "GROUP BY n.party_name";
+
+    private final Map<String, Map<String, Integer>> byCategory = new HashMap<>();
+    private final Map<String, Integer> byParty = new HashMap<>();
+    private final Map<String, Integer> todayByParty = new HashMap<>();
+    // Spelling of each party key as it appears in Votes, for parties not on any ballot
+    private final Map<String, String> partyNames = new HashMap<>();
+
+    private Timestamp watermark;
+    private Timestamp today;
+    private long lastPoll = 0;
+    private long lastReconcile = 0;
+    private volatile boolean invalid = true;
+
+    private VoteTally() {
+    }
+
+    public static VoteTally getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Lookup key for a party or category name: lowercased, trailing spaces dropped, so names
+     * the database collation treats as equal share one counter.
+     */
+    public static String key(String name) {
+        if (name == null) {
+            return "";
+        }
+        int end = name.length();
+        while (end > 0 && name.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return name.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Forces a full recount on the next refresh, e.g. after votes were deleted.
+     */
+    public void invalidate() {
+        invalid = true;
+    }
+
+    /**
+     * Brings the counters up to date: a delta query normally, a full recount when due.
+     * Does nothing if the last refresh was under admin.tally.pollMillis ago.
+     */
+    public synchronized void refresh(Connection conn) throws SQLException {
+        long now = System.currentTimeMillis();
+        if (!invalid && now - lastPoll < POLL_MILLIS) {
+            return;
+        }
+
+        Timestamp boundary;
+        Timestamp currentDay;
+        try (PreparedStatement stmt = conn.prepareStatement(BOUNDARY_SQL)) {
+            stmt.setInt(1, SETTLE_SECONDS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                boundary = rs.getTimestamp("boundary");
+                currentDay = rs.getTimestamp("today");
+            }
+        }
+
+        if (invalid || watermark == null || !currentDay.equals(today) || now - lastReconcile >= RECONCILE_MILLIS) {
+            reconcile(conn, boundary, currentDay);
+            lastReconcile = now;
+        } else if (boundary.after(watermark)) {
+            applyDelta(conn, boundary);
+        }
+        lastPoll = now;
+    }
+
+    private void reconcile(Connection conn, Timestamp boundary, Timestamp currentDay) throws SQLException {
+        invalid = false;
+        long start = System.currentTimeMillis();
+        Map<String, Map<String, Integer>> categories = new HashMap<>();
+        Map<String, Integer> parties = new HashMap<>();
+        Map<String, Integer> todays = new HashMap<>();
+        Map<String, String> names = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(RECOUNT_SQL)) {
+            stmt.setTimestamp(1, boundary);
+            stmt.setTimestamp(2, boundary);
+            stmt.setTimestamp(3, currentDay);
+            stmt.setTimestamp(4, boundary);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    add(rs, categories, parties, todays, names);
+                }
+            }
+        } catch (SQLException e) {
+            invalid = true;
+            throw e;
+        }
+
+        if (watermark != null) {
+            int drift = drift(parties, byParty);
+            if (drift != 0) {
+                System.out.println("🧮 Vote tally reconciled, corrected " + drift + " party counts");
+            }
+        }
+        byCategory.clear();
+        byCategory.putAll(categories);
+        byParty.clear();
+        byParty.putAll(parties);
+        todayByParty.clear();
+        todayByParty.putAll(todays);
+        partyNames.clear();
+        partyNames.putAll(names);
+        watermark = boundary;
+        today = currentDay;
+        System.out.println("🧮 Vote tally recounted in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private void applyDelta(Connection conn, Timestamp boundary) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(DELTA_SQL)) {
+            stmt.setTimestamp(1, watermark);
+            stmt.setTimestamp(2, boundary);
+            stmt.setTimestamp(3, watermark);
+            stmt.setTimestamp(4, watermark);
+            stmt.setTimestamp(5, boundary);
+            stmt.setTimestamp(6, watermark);
+            stmt.setTimestamp(7, watermark);
+            stmt.setTimestamp(8, boundary);
+            stmt.setTimestamp(9, today);
+            stmt.setTimestamp(10, today);
+            stmt.setTimestamp(11, watermark);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    add(rs, byCategory, byParty, todayByParty, partyNames);
+                }
+            }
+        }
+        watermark = boundary;
+    }
+
+    private static void add(ResultSet rs, Map<String, Map<String, Integer>> categories,
+            Map<String, Integer> parties, Map<String, Integer> todays, Map<String, String> names) throws SQLException {
+        String name = rs.getString("party_name");
+        String party = key(name);
+        names.putIfAbsent(party, name);
+        int voters = rs.getInt("voters");
+        switch (rs.getString("level")) {
+            case "C":
+                categories.computeIfAbsent(key(rs.getString("category")), c -> new HashMap<>()).merge(party, voters, Integer::sum);
+                break;
+            case "P":
+                parties.merge(party, voters, Integer::sum);
+                break;
+            default:
+                todays.merge(party, voters, Integer::sum);
+        }
+    }
+
+    private static int drift(Map<String, Integer> recounted, Map<String, Integer> tallied) {
+        Set<String> parties = new TreeSet<>(recounted.keySet());
+        parties.addAll(tallied.keySet());
+        int changed = 0;
+        for (String party : parties) {
+            if (!recounted.getOrDefault(party, 0).equals(tallied.getOrDefault(party, 0))) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Distinct voters for the party in a category ("National", "Regional", "Provincial").
+     */
+    public synchronized int getVotes(String category, String party) {
+        Map<String, Integer> parties = byCategory.get(key(category));
+        return parties == null ? 0 : parties.getOrDefault(key(party), 0);
+    }
+
+    /**
+     * Distinct voters for the party in any category.
+     */
+    public synchronized int getPartyTotal(String party) {
+        return byParty.getOrDefault(key(party), 0);
+    }
+
+    /**
+     * Distinct voters for the party today.
+     */
+    public synchronized int getPartyToday(String party) {
+        return todayByParty.getOrDefault(key(party), 0);
+    }
+
+    /**
+     * Parties that have received at least one vote, spelled as in Votes.
+     */
+    public synchronized Set<String> getVotedParties() {
+        Set<String> parties = new TreeSet<>();
+        for (String party : byParty.keySet()) {
+            parties.add(partyNames.getOrDefault(party, party));
+        }
+        return Collections.unmodifiableSet(parties);
+    }
+}
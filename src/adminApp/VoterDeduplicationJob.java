@@ -0,0 +1,339 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Offline job that finds likely-duplicate fingerprints already enrolled in VOTERS.
+ *
+ * Templates are streamed in ID order and compared block against block across all cores.
+ * After every finished block row the suspects are appended to a work file and the row is
+ * checkpointed along with the work file's length, so an interrupted run drops suspects
+ * written after the last checkpoint and resumes where it stopped. The final report
+ * ranks suspect pairs by Engine.Compare score (lower is more alike).
+ *
+ * Usage: java adminApp.VoterDeduplicationJob [report.csv] [checkpoint.properties]
+ */
+public class VoterDeduplicationJob {
+
+    private static final int FETCH_BATCH_SIZE = 2000;
+    private static final int BLOCK_SIZE = 1000;
+    // Same scoring scale as login; pairs scoring below this are reported
+    private static final int REPORT_THRESHOLD = Integer.getInteger(
+            "admin.dedup.reportThreshold", IdentificationEngine.DEFAULT_THRESHOLD);
+
+    private final File reportFile;
+    private final File checkpointFile;
+    private final File suspectsFile;
+    private final AtomicLong comparisons = new AtomicLong();
+    private int suspectCount = 0;
+
+    public VoterDeduplicationJob(File reportFile, File checkpointFile) {
+        this.reportFile = reportFile;
+        this.checkpointFile = checkpointFile;
+        this.suspectsFile = new File(checkpointFile.getPath() + ".suspects");
+    }
+
+    /**
+     * A pair of voters whose fingerprints look like the same finger.
+     */
+    public static class SuspectPair {
+        final int score;
+        final String firstId, firstName, secondId, secondName;
+
+        SuspectPair(int score, String firstId, String firstName, String secondId, String secondName) {
+            this.score = score;
+            this.firstId = firstId;
+            this.firstName = firstName;
+            this.secondId = secondId;
+            this.secondName = secondName;
+        }
+
+        String toCsv() {
+            return score + "," + firstId + "," + csv(firstName) + "," + secondId + "," + csv(secondName);
+        }
+
+        static SuspectPair fromCsv(String line) {
+            String[] parts = line.split(",", -1);
+            return new SuspectPair(Integer.parseInt(parts[0]), parts[1], parts[2], parts[3], parts[4]);
+        }
+
+        private static String csv(String value) {
+            return value == null ? "" : value.replace(",", " ");
+        }
+    }
+
+    public void run() throws SQLException, IOException, InterruptedException {
+        long start = System.currentTimeMillis();
+        List<FingerprintTemplate> templates = loadTemplates();
+        int blocks = (templates.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        String voterSet = voterSetDigest(templates);
+        int firstRow = readCheckpoint(templates.size(), voterSet);
+        if (firstRow == 0) {
+            suspectsFile.delete();
+        } else {
+            suspectCount = readSuspects().size();
+            System.out.println("⏩ Resuming deduplication at block row " + firstRow + " of " + blocks);
+        }
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        long compareStart = System.currentTimeMillis();
+        try {
+            for (int row = firstRow; row < blocks; row++) {
+                List<Future<List<SuspectPair>>> pending = new ArrayList<>();
+                for (int col = row; col < blocks; col++) {
+                    final int r = row, c = col;
+                    pending.add(workers.submit(() -> compareBlocks(templates, r, c)));
+                }
+
+                List<SuspectPair> found = new ArrayList<>();
+                for (Future<List<SuspectPair>> future : pending) {
+                    try {
+                        found.addAll(future.get());
+                    } catch (java.util.concurrent.ExecutionException e) {
+                        throw new IOException("Block comparison failed: " + e.getCause().getMessage(), e.getCause());
+                    }
+                }
+
+                appendSuspects(found);
+                writeCheckpoint(row + 1, templates.size(), voterSet);
+
+                double seconds = Math.max(1, System.currentTimeMillis() - compareStart) / 1000.0;
+                System.out.printf("🧮 Block row %d/%d done, %d suspects so far, %.0f comparisons/s%n",
+                        row + 1, blocks, suspectCount, comparisons.get() / seconds);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        writeReport();
+        checkpointFile.delete();
+        suspectsFile.delete();
+
+        double seconds = Math.max(1, System.currentTimeMillis() - compareStart) / 1000.0;
+        System.out.printf("✅ Deduplication finished in %d ms: %d templates, %d comparisons, %.0f comparisons/s. Report: %s%n",
+                System.currentTimeMillis() - start, templates.size(), comparisons.get(),
+                comparisons.get() / seconds, reportFile.getAbsolutePath());
+    }
+
+    /**
+     * Streams the fingerprint columns in ID order and converts each chunk across cores.
+     */
+    private List<FingerprintTemplate> loadTemplates() throws SQLException {
+        long start = System.currentTimeMillis();
+        List<FingerprintTemplate> templates = new ArrayList<>();
+        String lastId = "";
+        // The column list depends on the schema check, so run it before building the query
+        try (Connection conn = AdminDatabaseConnectivity.borrowConnection()) {
+            FingerprintTemplateStore.ensureSchema(conn);
+        }
+        String sql = "SELECT ID_NUMBER, NAME, SURNAME, " + FingerprintTemplateStore.templateColumns()
+                + " FROM VOTERS WHERE " + FingerprintTemplateStore.hasFingerprintCondition()
+                + " AND ID_NUMBER > ? ORDER BY ID_NUMBER LIMIT " + FETCH_BATCH_SIZE;
+
+        while (true) {
+            List<Object[]> rows = new ArrayList<>();
+            try (Connection conn = AdminDatabaseConnectivity.borrowConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, lastId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        lastId = rs.getString("ID_NUMBER");
+                        rows.add(new Object[]{lastId, rs.getString("NAME"), rs.getString("SURNAME"),
+                            rs.getBytes(FingerprintTemplateStore.FMD_COLUMN),
+                            rs.getString(FingerprintTemplateStore.FORMAT_COLUMN),
+                            rs.getBytes("FINGERPRINT")});
+                    }
+                }
+            }
+
+            // collect() keeps encounter (ID) order, which the checkpoints rely on
+            rows.parallelStream()
+                    .map(r -> FingerprintTemplateStore.toTemplate((String) r[0], (String) r[1], (String) r[2],
+                            (byte[]) r[3], (String) r[4], (byte[]) r[5]))
+                    .filter(t -> t != null && t.getFmd() != null)
+                    .collect(Collectors.toList())
+                    .forEach(templates::add);
+
+            if (rows.size() < FETCH_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        System.out.println("🗂️ Loaded " + templates.size() + " voter templates in "
+                + (System.currentTimeMillis() - start) + " ms");
+        return templates;
+    }
+
+    /**
+     * Compares every template of block row against every template of block col
+     * (only the upper triangle when they are the same block).
+     */
+    private List<SuspectPair> compareBlocks(List<FingerprintTemplate> templates, int row, int col) throws UareUException {
+        Engine engine = UareUGlobal.GetEngine();
+        List<SuspectPair> found = new ArrayList<>();
+        int rowEnd = Math.min(templates.size(), (row + 1) * BLOCK_SIZE);
+        int colEnd = Math.min(templates.size(), (col + 1) * BLOCK_SIZE);
+        long compared = 0;
+
+        for (int i = row * BLOCK_SIZE; i < rowEnd; i++) {
+            FingerprintTemplate first = templates.get(i);
+            int jStart = row == col ? i + 1 : col * BLOCK_SIZE;
+            for (int j = jStart; j < colEnd; j++) {
+                FingerprintTemplate second = templates.get(j);
+                int score = engine.Compare(first.getFmd(), 0, second.getFmd(), 0);
+                compared++;
+                if (score < REPORT_THRESHOLD) {
+                    found.add(new SuspectPair(score,
+                            first.getIdNumber(), first.getName() + " " + first.getSurname(),
+                            second.getIdNumber(), second.getName() + " " + second.getSurname()));
+                }
+            }
+        }
+
+        comparisons.addAndGet(compared);
+        return found;
+    }
+
+    /**
+     * Hash of the ordered template IDs. Block rows index into this exact list, so a checkpoint
+     * is only valid for the same IDs in the same order, not just the same count.
+     */
+    private static String voterSetDigest(List<FingerprintTemplate> templates) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (FingerprintTemplate template : templates) {
+                digest.update(template.getIdNumber().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private int readCheckpoint(int templateCount, String voterSet) {
+        if (!checkpointFile.exists()) {
+            return 0;
+        }
+        Properties props = new Properties();
+        try (InputStream in = new FileInputStream(checkpointFile)) {
+            props.load(in);
+            int savedCount = Integer.parseInt(props.getProperty("templates", "-1"));
+            if (savedCount != templateCount) {
+                System.out.println("⚠️ Voter set changed since the checkpoint (" + savedCount + " -> "
+                        + templateCount + " templates), starting over");
+                return 0;
+            }
+            if (!voterSet.equals(props.getProperty("voterSet"))
+                    || !Integer.toString(BLOCK_SIZE).equals(props.getProperty("blockSize"))) {
+                System.out.println("⚠️ Voter IDs or block size changed since the checkpoint, starting over");
+                return 0;
+            }
+            long suspectsBytes = Long.parseLong(props.getProperty("suspectsBytes", "-1"));
+            if (suspectsBytes < 0 || suspectsFile.length() < suspectsBytes) {
+                System.out.println("⚠️ Suspects file does not match the checkpoint, starting over");
+                return 0;
+            }
+            // Suspects appended after this checkpoint belong to a block row that will be redone
+            try (RandomAccessFile suspects = new RandomAccessFile(suspectsFile, "rw")) {
+                suspects.setLength(suspectsBytes);
+            }
+            return Integer.parseInt(props.getProperty("nextBlockRow", "0"));
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("⚠️ Ignoring unreadable checkpoint: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private void writeCheckpoint(int nextRow, int templateCount, String voterSet) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("nextBlockRow", Integer.toString(nextRow));
+        props.setProperty("templates", Integer.toString(templateCount));
+        props.setProperty("voterSet", voterSet);
+        props.setProperty("blockSize", Integer.toString(BLOCK_SIZE));
+        props.setProperty("suspectsBytes", Long.toString(suspectsFile.length()));
+        File tmp = new File(checkpointFile.getPath() + ".tmp");
+        try (OutputStream out = new FileOutputStream(tmp)) {
+            props.store(out, "Voter deduplication checkpoint");
+        }
+        if (!tmp.renameTo(checkpointFile)) {
+            checkpointFile.delete();
+            if (!tmp.renameTo(checkpointFile)) {
+                throw new IOException("Could not write checkpoint " + checkpointFile);
+            }
+        }
+    }
+
+    private void appendSuspects(List<SuspectPair> found) throws IOException {
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(suspectsFile, true), StandardCharsets.UTF_8)) {
+            for (SuspectPair pair : found) {
+                out.write(pair.toCsv());
+                out.write(System.lineSeparator());
+            }
+        }
+        suspectCount += found.size();
+    }
+
+    private List<SuspectPair> readSuspects() throws IOException {
+        List<SuspectPair> pairs = new ArrayList<>();
+        if (!suspectsFile.exists()) {
+            return pairs;
+        }
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(suspectsFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    pairs.add(SuspectPair.fromCsv(line));
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private void writeReport() throws IOException {
+        List<SuspectPair> pairs = readSuspects();
+        Collections.sort(pairs, Comparator.comparingInt(p -> p.score));
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(reportFile), StandardCharsets.UTF_8))) {
+            out.println("rank,score,first_id,first_name,second_id,second_name");
+            int rank = 1;
+            for (SuspectPair pair : pairs) {
+                out.println(rank++ + "," + pair.toCsv());
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        File report = new File(args.length > 0 ? args[0] : "voter-dedup-report.csv");
+        File checkpoint = new File(args.length > 1 ? args[1] : "voter-dedup-checkpoint.properties");
+        try {
+            new VoterDeduplicationJob(report, checkpoint).run();
+        } catch (Exception e) {
+            System.err.println("❌ Deduplication job failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            AdminDatabaseConnectivity.closeConnection();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package adminApp;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parsed voter search box query.
+ *
+ * Syntax: space-separated filters, all of which must match.
+ * - id:9001011234567 (exact), id:900101* (prefix)
+ * - name:thabo, surname:dlamini (prefix; *ohn* for contains, "van der merwe" for spaces)
+ * - voted:true / voted:false
+ * - fingerprint:missing / fingerprint:captured
+ * Bare words keep the old shortcuts: digits are an ID prefix, "voted"/"yes" and
+ * "not voted"/"no" filter on voting status, anything else is a name or surname prefix.
+ *
+ * Compiles to a WHERE clause the ID_NUMBER, NAME and SURNAME indexes can serve
+ * (prefix LIKE, no LOWER()), or is evaluated against {@link VoterSearchIndex}.
+ * The NAME and SURNAME indexes come from sql/001_voter_name_indexes.sql.
+ */
+public class VoterQuery {
+
+    public enum Field {
+        ID, NAME, SURNAME, NAME_OR_SURNAME, VOTED, FINGERPRINT
+    }
+
+    /**
+     * One filter. For text fields, prefix/contains say how value is matched; otherwise it is exact.
+     * For VOTED and FINGERPRINT, flag holds the wanted value.
+     */
+    public static final class Term {
+
+        public final Field field;
+        public final String value;
+        public final boolean prefix;
+        public final boolean contains;
+        public final boolean flag;
+
+        Term(Field field, String value, boolean prefix, boolean contains, boolean flag) {
+            this.field = field;
+            this.value = value;
+            this.prefix = prefix;
+            this.contains = contains;
+            this.flag = flag;
+        }
+
+        /**
+         * Tests a lowercased value against this term.
+         */
+        public boolean matches(String candidate) {
+            if (contains) {
+                return candidate.contains(value);
+            }
+            if (prefix) {
+                return candidate.startsWith(value);
+            }
+            return candidate.equals(value);
+        }
+
+        @Override
+        public String toString() {
+            String shown = contains ? "*" + value + "*" : prefix ? value + "*" : value;
+            switch (field) {
+                case VOTED:
+                    return "voted:" + flag;
+                case FINGERPRINT:
+                    return "fingerprint:" + (flag ? "captured" : "missing");
+                case NAME_OR_SURNAME:
+                    return shown;
+                default:
+                    return field.name().toLowerCase() + ":" + shown;
+            }
+        }
+    }
+
+    private final List<Term> terms;
+
+    private VoterQuery(List<Term> terms) {
+        this.terms = Collections.unmodifiableList(terms);
+    }
+
+    public List<Term> getTerms() {
+        return terms;
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    /**
+     * Parses search box text. Throws IllegalArgumentException with a user-facing message on bad input.
+     */
+    public static VoterQuery parse(String text) {
+        List<Term> terms = new ArrayList<>();
+        List<String> tokens = tokenize(text == null ? "" : text.trim().toLowerCase());
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+
+            // Legacy voting status keywords
+            if (token.equals("not") && i + 1 < tokens.size() && tokens.get(i + 1).equals("voted")) {
+                terms.add(flag(Field.VOTED, false));
+                i++;
+                continue;
+            }
+            if (token.equals("voted") || token.equals("yes")) {
+                terms.add(flag(Field.VOTED, true));
+                continue;
+            }
+            if (token.equals("no")) {
+                terms.add(flag(Field.VOTED, false));
+                continue;
+            }
+
+            int colon = token.indexOf(':');
+            if (colon < 0) {
+                terms.add(isDigits(token) ? text(Field.ID, token + "*") : text(Field.NAME_OR_SURNAME, token + "*"));
+                continue;
+            }
+
+            String key = token.substring(0, colon);
+            String value = token.substring(colon + 1);
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException("Missing value after '" + key + ":'");
+            }
+            switch (key) {
+                case "id":
+                    terms.add(text(Field.ID, value));
+                    break;
+                case "name":
+                    terms.add(text(Field.NAME, value));
+                    break;
+                case "surname":
+                    terms.add(text(Field.SURNAME, value));
+                    break;
+                case "voted":
+                    terms.add(flag(Field.VOTED, parseFlag(value, "true", "yes", "false", "no")));
+                    break;
+                case "fingerprint":
+                    terms.add(flag(Field.FINGERPRINT, parseFlag(value, "captured", "present", "missing", "none")));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown filter '" + key
+                            + ":'. Use id:, name:, surname:, voted: or fingerprint:");
+            }
+        }
+        return new VoterQuery(terms);
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (Character.isWhitespace(c) && !quoted) {
+                if (current.length() > 0) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private static Term text(Field field, String value) {
+        boolean contains = value.length() > 2 && value.startsWith("*") && value.endsWith("*");
+        boolean prefix = !contains && value.endsWith("*");
+        String bare = contains ? value.substring(1, value.length() - 1)
+                : prefix ? value.substring(0, value.length() - 1) : value;
+        if (bare.isEmpty() || bare.indexOf('*') >= 0) {
+            throw new IllegalArgumentException("Wildcards are only allowed as value* or *value*");
+        }
+        return new Term(field, bare, prefix, contains, false);
+    }
+
+    private static Term flag(Field field, boolean value) {
+        return new Term(field, null, false, false, value);
+    }
+
+    private static boolean parseFlag(String value, String yes, String yesAlias, String no, String noAlias) {
+        if (value.equals(yes) || value.equals(yesAlias)) {
+            return true;
+        }
+        if (value.equals(no) || value.equals(noAlias)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Expected " + yes + " or " + no + ", got '" + value + "'");
+    }
+
+    private static boolean isDigits(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ---- SQL ----
+
+    /**
+     * WHERE clause (without the keyword) for this query; "TRUE" when there are no terms.
+     */
+    public String toSqlWhere() {
+        if (terms.isEmpty()) {
+            return "TRUE";
+        }
+        StringBuilder where = new StringBuilder();
+        for (Term term : terms) {
+            if (where.length() > 0) {
+                where.append(" AND ");
+            }
+            switch (term.field) {
+                case ID:
+                    where.append(textPredicate("ID_NUMBER", term));
+                    break;
+                case NAME:
+                    where.append(textPredicate("NAME", term));
+                    break;
+                case SURNAME:
+                    where.append(textPredicate("SURNAME", term));
+                    break;
+                case NAME_OR_SURNAME:
+                    where.append('(').append(textPredicate("NAME", term))
+                            .append(" OR ").append(textPredicate("SURNAME", term)).append(')');
+                    break;
+                case VOTED:
+                    where.append("has_voted = ?");
+                    break;
+                case FINGERPRINT:
+                    String present = FingerprintTemplateStore.hasFingerprintCondition();
+                    where.append(term.flag ? present : "NOT " + present);
+                    break;
+            }
+        }
+        return where.toString();
+    }
+
+    /**
+     * Binds the parameters of {@link #toSqlWhere()} starting at the given index. Returns the next free index.
+     */
+    public int bind(PreparedStatement stmt, int index) throws SQLException {
+        for (Term term : terms) {
+            switch (term.field) {
+                case NAME_OR_SURNAME:
+                    stmt.setString(index++, likePattern(term));
+                    stmt.setString(index++, likePattern(term));
+                    break;
+                case VOTED:
+                    stmt.setBoolean(index++, term.flag);
+                    break;
+                case FINGERPRINT:
+                    break;
+                default:
+                    stmt.setString(index++, likePattern(term));
+            }
+        }
+        return index;
+    }
+
+    // Case-insensitive through the column collation, so the column stays bare and indexable
+    private static String textPredicate(String column, Term term) {
+        return term.prefix || term.contains ? column + " LIKE ? ESCAPE '!'" : column + " = ?";
+    }
+
+    private static String likePattern(Term term) {
+        if (!term.prefix && !term.contains) {
+            return term.value;
+        }
+        String escaped = term.value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return (term.contains ? "%" : "") + escaped + "%";
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Term term : terms) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(term);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,577 @@
+package adminApp;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Local search over every voter, answering {@link VoterQuery} searches without a DB round trip.
+ *
+ * Holds a full {@link VoterSnapshot} plus:
+ * - a trigram index over the name dictionary for *contains* matches,
+ * - a sorted word map for prefix and exact matches,
+ * - word code to voter postings, keyed by packed ID so inserts and deletes don't renumber them.
+ * ID prefixes are a binary-searched range of the ID-ordered snapshot.
+ *
+ * Matches the semantics of {@link AdminDatabaseLogic#searchVoters}. Kept current by the
+ * same AdminDatabaseLogic methods that change voters. Changes made elsewhere (votes cast
+ * through the voting app, enrollments at other stations) are picked up by reloading:
+ * a cheap signature query runs every admin.voterIndex.checkMillis and triggers a reload
+ * when it changes, and a full reload runs every admin.voterIndex.reloadMillis regardless.
+ * Voting-status filters always go to the database, see {@link #canAnswer}.
+ *
+ * Reloads and compactions build a whole new {@link Index} off the lock while the old one keeps
+ * serving; changes made meanwhile are queued, replayed onto the new one and it is swapped in,
+ * so the write lock is only ever held for single-voter edits and that short swap.
+ * Results are capped at {@link AdminDatabaseLogic#VOTER_SEARCH_LIMIT} rows like the DB path.
+ */
+public class VoterSearchIndex {
+
+    private static final VoterSearchIndex INSTANCE = new VoterSearchIndex();
+
+    // Rows fetched per round trip while loading
+    private static final int LOAD_BATCH_SIZE = 5000;
+    private static final long CHECK_MILLIS = Long.getLong("admin.voterIndex.checkMillis", 60000);
+    private static final long RELOAD_MILLIS = Long.getLong("admin.voterIndex.reloadMillis", 30 * 60 * 1000);
+
+    // Moves when voters are added, removed or vote; name edits are caught by the periodic reload
+    private static final String SIGNATURE_SQL = "SELECT COUNT(*) AS voters, COALESCE(SUM(has_voted), 0) AS voted, "
+            + "COALESCE(MAX(ID_NUMBER), '') AS last_id FROM VOTERS";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Replaced wholesale by publish(); edited in place only under the write lock
+    private Index index = new Index(new VoterSnapshot());
+
+    private volatile boolean loaded = false;
+    // A reload or compaction is building the next Index
+    private volatile boolean loading = false;
+    // Changes made while the next Index is being built, replayed onto it before it is swapped in
+    private final List<Consumer<Index>> pendingChanges = new ArrayList<>();
+    private String signature;
+    private long loadedAt;
+    private AdminScheduler.Job refreshJob;
+
+    private VoterSearchIndex() {
+    }
+
+    public static VoterSearchIndex getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Whether {@link #search} can answer the query. Voting status changes constantly during
+     * an election and is written by the voting app, so those filters are left to the database.
+     */
+    public boolean canAnswer(VoterQuery query) {
+        if (!loaded) {
+            return false;
+        }
+        for (VoterQuery.Term term : query.getTerms()) {
+            if (term.field == VoterQuery.Field.VOTED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Loads every voter on a background thread if not already done, and starts the
+     * periodic staleness check.
+     */
+    public synchronized void warmUp() {
+        if (refreshJob == null) {
+            refreshJob = AdminScheduler.getInstance().schedule("voter-index-check", CHECK_MILLIS, CHECK_MILLIS,
+                    this::reloadIfStale);
+        }
+        if (loaded) {
+            return;
+        }
+        startLoad();
+    }
+
+    private synchronized void startLoad() {
+        if (loading) {
+            return;
+        }
+        loading = true;
+        AdminExecutors.run(() -> {
+            try {
+                load();
+            } catch (SQLException | RuntimeException e) {
+                System.err.println("❌ Voter search index load failed: " + e.getMessage());
+                abandonRebuild();
+            }
+        });
+    }
+
+    /**
+     * Reloads in the background when the voter signature moved or the last load is too old.
+     * The current index keeps serving until the new one is ready. Returns false if the check query failed.
+     */
+    private boolean reloadIfStale() {
+        if (!loaded || loading) {
+            return true;
+        }
+        boolean stale = System.currentTimeMillis() - loadedAt >= RELOAD_MILLIS;
+        if (!stale) {
+            try (Connection conn = AdminDatabaseConnectivity.borrowConnection()) {
+                stale = !readSignature(conn).equals(signature);
+            } catch (SQLException e) {
+                System.err.println("⚠️ Voter search index check failed: " + e.getMessage());
+                return false;
+            }
+        }
+        if (stale) {
+            startLoad();
+        }
+        return true;
+    }
+
+    private static String readSignature(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(SIGNATURE_SQL)) {
+            rs.next();
+            return rs.getLong("voters") + "/" + rs.getLong("voted") + "/" + rs.getString("last_id");
+        }
+    }
+
+    private void load() throws SQLException {
+        long start = System.currentTimeMillis();
+        VoterSnapshot full = new VoterSnapshot();
+        String lastId = null;
+        // Taken before the pages so anything that changes during the load shows up on the next check
+        String loadSignature;
+        try (Connection conn = AdminDatabaseConnectivity.borrowConnection()) {
+            loadSignature = readSignature(conn);
+        }
+        while (true) {
+            VoterSnapshot page;
+            try (Connection conn = AdminDatabaseConnectivity.borrowConnection()) {
+                page = AdminDatabaseLogic.getVoterSnapshotPage(conn, lastId, LOAD_BATCH_SIZE);
+            }
+            full.appendAll(page);
+            if (page.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            lastId = page.getIdNumber(page.size() - 1);
+        }
+
+        Index built = new Index(full);
+        signature = loadSignature;
+        loadedAt = System.currentTimeMillis();
+        publish(built);
+
+        System.out.println("🔍 Voter search index ready: " + full.size() + " voters, "
+                + built.lowerWords.size() + " distinct names, ~" + (full.estimatedBytes() / 1024) + " KB in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    /**
+     * Rebuilds from a compacted copy of the current snapshot once renames and deletes have left
+     * more unused words than live ones. Called under the write lock.
+     */
+    private synchronized void startCompaction() {
+        if (loading) {
+            return;
+        }
+        loading = true;
+        VoterSnapshot current = index.snapshot;
+        AdminExecutors.run(() -> {
+            try {
+                long start = System.currentTimeMillis();
+                publish(new Index(current.compact()));
+                System.out.println("🔍 Voter search index compacted in " + (System.currentTimeMillis() - start) + " ms");
+            } catch (RuntimeException e) {
+                System.err.println("❌ Voter search index compaction failed: " + e.getMessage());
+                abandonRebuild();
+            }
+        });
+    }
+
+    /**
+     * Swaps in an Index built off the lock, after replaying the changes queued while it was built.
+     * Changes are idempotent, so one that the build already picked up is harmless to replay.
+     */
+    private void publish(Index built) {
+        lock.writeLock().lock();
+        try {
+            List<Consumer<Index>> replay;
+            synchronized (pendingChanges) {
+                loaded = true;
+                loading = false;
+                replay = new ArrayList<>(pendingChanges);
+                pendingChanges.clear();
+            }
+            for (Consumer<Index> change : replay) {
+                change.accept(built);
+            }
+            index = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void abandonRebuild() {
+        synchronized (pendingChanges) {
+            loading = false;
+            pendingChanges.clear();
+        }
+    }
+
+    // ---- searching ----
+
+    /**
+     * Voters matching every term of the query, in ID order, at most
+     * {@link AdminDatabaseLogic#VOTER_SEARCH_LIMIT} of them. Call only when {@link #isLoaded()}.
+     */
+    public VoterSnapshot search(VoterQuery query) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, AdminDatabaseLogic.VOTER_SEARCH_LIMIT);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---- incremental maintenance ----
+
+    /**
+     * Adds a voter or replaces their details.
+     */
+    public void upsert(String name, String surname, String idNumber, boolean hasFingerprint, boolean hasVoted) {
+        apply(index -> index.upsert(name, surname, idNumber, hasFingerprint, hasVoted));
+    }
+
+    public void remove(String idNumber) {
+        apply(index -> index.remove(idNumber));
+    }
+
+    /**
+     * Applies an edit of the NAME (column 0) or SURNAME (column 1) of a voter.
+     */
+    public void rename(String idNumber, int column, String value) {
+        apply(index -> index.rename(idNumber, column, value));
+    }
+
+    public void setVoted(String idNumber, boolean hasVoted) {
+        apply(index -> index.setFlag(idNumber, true, hasVoted));
+    }
+
+    public void setFingerprint(String idNumber, boolean hasFingerprint) {
+        apply(index -> index.setFlag(idNumber, false, hasFingerprint));
+    }
+
+    private void apply(Consumer<Index> change) {
+        synchronized (pendingChanges) {
+            if (loading) {
+                pendingChanges.add(change);
+            }
+            if (!loaded) {
+                return;
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (index.snapshot.needsCompaction()) {
+                startCompaction();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * One generation of the index: a snapshot plus the postings and word tables built over it.
+     */
+    private static final class Index {
+
+        final VoterSnapshot snapshot;
+        final Map<Integer, LongPostings> nameRows = new HashMap<>();
+        final Map<Integer, LongPostings> surnameRows = new HashMap<>();
+        final Map<Long, IntList> trigramWords = new HashMap<>();
+        final TreeMap<String, IntList> sortedWords = new TreeMap<>();
+        final List<String> lowerWords = new ArrayList<>();
+
+        Index(VoterSnapshot snapshot) {
+            this.snapshot = snapshot;
+            for (int row = 0; row < snapshot.size(); row++) {
+                indexRow(snapshot.getPackedId(row), snapshot.getNameCode(row), snapshot.getSurnameCode(row));
+            }
+        }
+
+        VoterSnapshot search(VoterQuery query, int limit) {
+            BitSet rows = new BitSet();
+            if (query.isEmpty()) {
+                return snapshot.copyRows(rows);
+            }
+            rows.set(0, snapshot.size());
+            for (VoterQuery.Term term : query.getTerms()) {
+                rows.and(rowsMatching(term));
+                if (rows.isEmpty()) {
+                    break;
+                }
+            }
+            return snapshot.copyRows(firstRows(rows, limit));
+        }
+
+        private static BitSet firstRows(BitSet rows, int limit) {
+            int count = 0;
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                if (++count > limit) {
+                    rows.clear(row, rows.length());
+                    break;
+                }
+            }
+            return rows;
+        }
+
+        void upsert(String name, String surname, String idNumber, boolean hasFingerprint, boolean hasVoted) {
+            int row = snapshot.indexOf(idNumber);
+            if (row >= 0) {
+                unindexRow(snapshot.getPackedId(row), snapshot.getNameCode(row), snapshot.getSurnameCode(row));
+            }
+            row = snapshot.upsert(name, surname, idNumber, hasFingerprint, hasVoted);
+            indexRow(snapshot.getPackedId(row), snapshot.getNameCode(row), snapshot.getSurnameCode(row));
+        }
+
+        void remove(String idNumber) {
+            int row = snapshot.indexOf(idNumber);
+            if (row >= 0) {
+                unindexRow(snapshot.getPackedId(row), snapshot.getNameCode(row), snapshot.getSurnameCode(row));
+                snapshot.remove(idNumber);
+            }
+        }
+
+        void rename(String idNumber, int column, String value) {
+            int row = snapshot.indexOf(idNumber);
+            if (row < 0) {
+                return;
+            }
+            long packed = snapshot.getPackedId(row);
+            unindexRow(packed, snapshot.getNameCode(row), snapshot.getSurnameCode(row));
+            if (column == 0) {
+                snapshot.setName(row, value);
+            } else {
+                snapshot.setSurname(row, value);
+            }
+            indexRow(packed, snapshot.getNameCode(row), snapshot.getSurnameCode(row));
+        }
+
+        /**
+         * Sets the has_voted (voted true) or fingerprint flag of a voter.
+         */
+        void setFlag(String idNumber, boolean voted, boolean value) {
+            int row = snapshot.indexOf(idNumber);
+            if (row < 0) {
+                return;
+            }
+            if (voted) {
+                snapshot.setVoted(row, value);
+            } else {
+                snapshot.setFingerprint(row, value);
+            }
+        }
+
+        private BitSet rowsMatching(VoterQuery.Term term) {
+            BitSet rows = new BitSet();
+            switch (term.field) {
+                case ID:
+                    if (term.contains) {
+                        snapshot.findIdsContaining(term.value, rows);
+                    } else if (term.prefix) {
+                        int[] range = snapshot.idPrefixRange(term.value);
+                        rows.set(range[0], range[1]);
+                    } else {
+                        int row = snapshot.indexOf(term.value);
+                        if (row >= 0) {
+                            rows.set(row);
+                        }
+                    }
+                    break;
+                case NAME:
+                    for (int code : wordsMatching(term)) {
+                        addRows(nameRows.get(code), rows);
+                    }
+                    break;
+                case SURNAME:
+                    for (int code : wordsMatching(term)) {
+                        addRows(surnameRows.get(code), rows);
+                    }
+                    break;
+                case NAME_OR_SURNAME:
+                    for (int code : wordsMatching(term)) {
+                        addRows(nameRows.get(code), rows);
+                        addRows(surnameRows.get(code), rows);
+                    }
+                    break;
+                case VOTED:
+                    rows = snapshot.votedRows();
+                    if (!term.flag) {
+                        rows.flip(0, snapshot.size());
+                    }
+                    break;
+                case FINGERPRINT:
+                    rows = snapshot.fingerprintRows();
+                    if (!term.flag) {
+                        rows.flip(0, snapshot.size());
+                    }
+                    break;
+            }
+            return rows;
+        }
+
+        /**
+         * Dictionary codes of the words a text term matches: sorted-map range for prefixes,
+         * trigrams for contains, direct lookup for exact values.
+         */
+        private List<Integer> wordsMatching(VoterQuery.Term term) {
+            if (term.contains) {
+                return wordsContaining(term.value);
+            }
+            List<Integer> codes = new ArrayList<>();
+            Map<String, IntList> matches = term.prefix
+                    ? sortedWords.subMap(term.value, term.value + Character.MAX_VALUE)
+                    : sortedWords.subMap(term.value, true, term.value, true);
+            for (IntList words : matches.values()) {
+                for (int i = 0; i < words.size; i++) {
+                    codes.add(words.values[i]);
+                }
+            }
+            return codes;
+        }
+
+        private List<Integer> wordsContaining(String fragment) {
+            List<Integer> codes = new ArrayList<>();
+            if (fragment.length() < 3) {
+                for (int code = 0; code < lowerWords.size(); code++) {
+                    if (lowerWords.get(code).contains(fragment)) {
+                        codes.add(code);
+                    }
+                }
+                return codes;
+            }
+
+            // Candidates from the rarest trigram, then confirm the full fragment
+            IntList rarest = null;
+            for (int i = 0; i + 3 <= fragment.length(); i++) {
+                IntList words = trigramWords.get(trigram(fragment, i));
+                if (words == null) {
+                    return codes;
+                }
+                if (rarest == null || words.size < rarest.size) {
+                    rarest = words;
+                }
+            }
+            for (int i = 0; i < rarest.size; i++) {
+                int code = rarest.values[i];
+                if (lowerWords.get(code).contains(fragment)) {
+                    codes.add(code);
+                }
+            }
+            return codes;
+        }
+
+        private void addRows(LongPostings ids, BitSet out) {
+            if (ids == null) {
+                return;
+            }
+            for (int i = 0; i < ids.size; i++) {
+                int row = snapshot.indexOfPacked(ids.values[i]);
+                if (row >= 0) {
+                    out.set(row);
+                }
+            }
+        }
+
+        private void indexRow(long packedId, int nameCode, int surnameCode) {
+            indexNewWords();
+            nameRows.computeIfAbsent(nameCode, c -> new LongPostings()).add(packedId);
+            surnameRows.computeIfAbsent(surnameCode, c -> new LongPostings()).add(packedId);
+        }
+
+        private void unindexRow(long packedId, int nameCode, int surnameCode) {
+            LongPostings names = nameRows.get(nameCode);
+            if (names != null) {
+                names.remove(packedId);
+            }
+            LongPostings surnames = surnameRows.get(surnameCode);
+            if (surnames != null) {
+                surnames.remove(packedId);
+            }
+        }
+
+        /**
+         * Indexes dictionary words the snapshot has added since the last call.
+         */
+        private void indexNewWords() {
+            for (int code = lowerWords.size(); code < snapshot.getWordCount(); code++) {
+                String word = snapshot.getWord(code).toLowerCase();
+                lowerWords.add(word);
+                sortedWords.computeIfAbsent(word, w -> new IntList()).add(code);
+                for (int i = 0; i + 3 <= word.length(); i++) {
+                    IntList words = trigramWords.computeIfAbsent(trigram(word, i), t -> new IntList());
+                    if (words.size == 0 || words.values[words.size - 1] != code) {
+                        words.add(code);
+                    }
+                }
+            }
+        }
+    }
+
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    /**
+     * Growable int list without boxing.
+     */
+    private static class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * Growable list of packed voter IDs without boxing.
+     */
+    private static class LongPostings {
+        long[] values = new long[2];
+        int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void remove(long value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,534 @@
+package adminApp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+/**
+ * Columnar in-memory copy of the voter list.
+ * Names and surnames are dictionary-encoded into int codes, 13-digit ID numbers are
+ * packed into longs, and the fingerprint/has_voted flags live in bitsets, so a row
+ * costs roughly 16 bytes instead of a Vector of boxed strings. Rows are kept in
+ * ID_NUMBER order, matching the keyset pages they are loaded from.
+ *
+ * The dashboard cache, table model and search index all read the same instance.
+ *
+ * Codes are never renumbered in place, since the search index keys on them. Words and
+ * irregular IDs no row uses any more stay behind until the owner swaps in {@link #compact()},
+ * which it should do once {@link #needsCompaction()} says they outweigh the live ones.
+ */
+public class VoterSnapshot implements TableRowSource {
+
+    public static final String CAPTURED = "Captured";
+    public static final String NOT_CAPTURED = "Not Captured";
+    public static final String YES = "Yes";
+    public static final String NO = "No";
+
+    private static final int ID_DIGITS = 13;
+    private static final int INITIAL_CAPACITY = 1024;
+    // Unused dictionary entries tolerated before compaction is worth it
+    private static final int COMPACT_MIN_GARBAGE = 1024;
+    // Rows copied out per lock when diffing two snapshots
+    private static final int DIFF_CHUNK = 1024;
+
+    // Shared dictionary for names and surnames
+    private final List<String> words = new ArrayList<>();
+    private final Map<String, Integer> wordCodes = new HashMap<>();
+    // Rows using each word, and how many words have any
+    private int[] wordRefs = new int[INITIAL_CAPACITY];
+    private int liveWords = 0;
+    // ID numbers that are not 13 digits are kept here; ids[] then holds -(index + 1)
+    private final List<String> irregularIds = new ArrayList<>();
+    private final Map<String, Integer> irregularCodes = new HashMap<>();
+    private int liveIrregularIds = 0;
+
+    private int[] nameCodes = new int[INITIAL_CAPACITY];
+    private int[] surnameCodes = new int[INITIAL_CAPACITY];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private BitSet fingerprint = new BitSet();
+    private BitSet voted = new BitSet();
+    private int size = 0;
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends a voter whose ID sorts after every row already held (keyset page order).
+     */
+    public synchronized void append(String name, String surname, String idNumber, boolean hasFingerprint, boolean hasVoted) {
+        ensureCapacity(size + 1);
+        write(size, name, surname, idNumber, hasFingerprint, hasVoted);
+        size++;
+    }
+
+    /**
+     * Appends every row of a later page.
+     */
+    public synchronized void appendAll(VoterSnapshot page) {
+        synchronized (page) {
+            for (int i = 0; i < page.size; i++) {
+                append(page.getName(i), page.getSurname(i), page.getIdNumber(i), page.hasFingerprint(i), page.hasVoted(i));
+            }
+        }
+    }
+
+    /**
+     * Inserts or replaces a voter, keeping ID order. Returns the row it now occupies.
+     */
+    public synchronized int upsert(String name, String surname, String idNumber, boolean hasFingerprint, boolean hasVoted) {
+        int index = indexOf(idNumber);
+        if (index >= 0) {
+            setName(index, name);
+            setSurname(index, surname);
+            fingerprint.set(index, hasFingerprint);
+            voted.set(index, hasVoted);
+            return index;
+        }
+
+        int insertAt = -index - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(nameCodes, insertAt, nameCodes, insertAt + 1, size - insertAt);
+        System.arraycopy(surnameCodes, insertAt, surnameCodes, insertAt + 1, size - insertAt);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        fingerprint = shiftBits(fingerprint, insertAt, 1);
+        voted = shiftBits(voted, insertAt, 1);
+        size++;
+        write(insertAt, name, surname, idNumber, hasFingerprint, hasVoted);
+        return insertAt;
+    }
+
+    /**
+     * Removes a voter. Returns the row it occupied, or -1 if it was not held.
+     */
+    public synchronized int remove(String idNumber) {
+        int index = indexOf(idNumber);
+        if (index < 0) {
+            return -1;
+        }
+        release(nameCodes[index]);
+        release(surnameCodes[index]);
+        if (ids[index] < 0) {
+            liveIrregularIds--;
+        }
+        System.arraycopy(nameCodes, index + 1, nameCodes, index, size - index - 1);
+        System.arraycopy(surnameCodes, index + 1, surnameCodes, index, size - index - 1);
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        fingerprint = shiftBits(fingerprint, index + 1, -1);
+        voted = shiftBits(voted, index + 1, -1);
+        size--;
+        return index;
+    }
+
+    /**
+     * Binary search on ID order. Returns the row, or -(insertion point) - 1 when absent.
+     */
+    public synchronized int indexOf(String idNumber) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = getIdNumber(mid).compareTo(idNumber);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Row holding the given packed ID (see {@link #getPackedId}), or negative when absent.
+     */
+    public synchronized int indexOfPacked(long packed) {
+        if (packed < 0) {
+            return indexOf(irregularIds.get((int) (-packed - 1)));
+        }
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long other = ids[mid];
+            int cmp = other >= 0 ? Long.compare(other, packed) : getIdNumber(mid).compareTo(formatId(packed));
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Rows whose ID starts with the prefix, as [from, to). Contiguous because rows are in ID order.
+     */
+    public synchronized int[] idPrefixRange(String prefix) {
+        int from = indexOf(prefix);
+        from = from < 0 ? -from - 1 : from;
+        int to = indexOf(prefix + Character.MAX_VALUE);
+        to = to < 0 ? -to - 1 : to;
+        return new int[]{from, to};
+    }
+
+    /**
+     * Marks every row whose ID contains the fragment anywhere, without building a String per row.
+     */
+    public synchronized void findIdsContaining(String fragment, BitSet out) {
+        char[] digits = new char[ID_DIGITS];
+        char[] needle = fragment.toCharArray();
+        for (int row = 0; row < size; row++) {
+            long packed = ids[row];
+            if (packed < 0) {
+                if (irregularIds.get((int) (-packed - 1)).toLowerCase().contains(fragment)) {
+                    out.set(row);
+                }
+                continue;
+            }
+            for (int i = ID_DIGITS - 1; i >= 0; i--) {
+                digits[i] = (char) ('0' + packed % 10);
+                packed /= 10;
+            }
+            if (contains(digits, needle)) {
+                out.set(row);
+            }
+        }
+    }
+
+    public synchronized BitSet votedRows() {
+        BitSet rows = (BitSet) voted.clone();
+        rows.clear(size, Math.max(size, rows.length()));
+        return rows;
+    }
+
+    public synchronized BitSet fingerprintRows() {
+        BitSet rows = (BitSet) fingerprint.clone();
+        rows.clear(size, Math.max(size, rows.length()));
+        return rows;
+    }
+
+    /**
+     * New snapshot holding only the given rows, e.g. a search result.
+     */
+    public synchronized VoterSnapshot copyRows(BitSet rows) {
+        VoterSnapshot copy = new VoterSnapshot();
+        for (int row = rows.nextSetBit(0); row >= 0 && row < size; row = rows.nextSetBit(row + 1)) {
+            copy.append(getName(row), getSurname(row), getIdNumber(row), hasFingerprint(row), hasVoted(row));
+        }
+        return copy;
+    }
+
+    public synchronized String getName(int row) {
+        return words.get(nameCodes[row]);
+    }
+
+    public synchronized String getSurname(int row) {
+        return words.get(surnameCodes[row]);
+    }
+
+    public synchronized int getNameCode(int row) {
+        return nameCodes[row];
+    }
+
+    public synchronized int getSurnameCode(int row) {
+        return surnameCodes[row];
+    }
+
+    /**
+     * Dictionary word for a name or surname code.
+     */
+    public synchronized String getWord(int code) {
+        return words.get(code);
+    }
+
+    public synchronized int getWordCount() {
+        return words.size();
+    }
+
+    public synchronized String getIdNumber(int row) {
+        long packed = ids[row];
+        if (packed < 0) {
+            return irregularIds.get((int) (-packed - 1));
+        }
+        return formatId(packed);
+    }
+
+    private static String formatId(long packed) {
+        String digits = Long.toString(packed);
+        if (digits.length() >= ID_DIGITS) {
+            return digits;
+        }
+        char[] padded = new char[ID_DIGITS];
+        int pad = ID_DIGITS - digits.length();
+        Arrays.fill(padded, 0, pad, '0');
+        digits.getChars(0, digits.length(), padded, pad);
+        return new String(padded);
+    }
+
+    /**
+     * Packed ID for 13-digit IDs, or a negative value for irregular ones.
+     */
+    public synchronized long getPackedId(int row) {
+        return ids[row];
+    }
+
+    public synchronized boolean hasFingerprint(int row) {
+        return fingerprint.get(row);
+    }
+
+    public synchronized boolean hasVoted(int row) {
+        return voted.get(row);
+    }
+
+    public synchronized void setName(int row, String name) {
+        int old = nameCodes[row];
+        nameCodes[row] = encode(name);
+        release(old);
+    }
+
+    public synchronized void setSurname(int row, String surname) {
+        int old = surnameCodes[row];
+        surnameCodes[row] = encode(surname);
+        release(old);
+    }
+
+    /**
+     * Whether unused words and irregular IDs now outweigh the live ones enough to rebuild.
+     */
+    public synchronized boolean needsCompaction() {
+        int garbage = (words.size() - liveWords) + (irregularIds.size() - liveIrregularIds);
+        return garbage > COMPACT_MIN_GARBAGE && garbage > liveWords + liveIrregularIds;
+    }
+
+    /**
+     * Copy of the rows with a fresh dictionary holding only what they use. Codes differ from this one.
+     */
+    public synchronized VoterSnapshot compact() {
+        VoterSnapshot copy = new VoterSnapshot();
+        copy.appendAll(this);
+        return copy;
+    }
+
+    public synchronized void setFingerprint(int row, boolean hasFingerprint) {
+        fingerprint.set(row, hasFingerprint);
+    }
+
+    public synchronized void setVoted(int row, boolean hasVoted) {
+        voted.set(row, hasVoted);
+    }
+
+    /**
+     * Rows below count whose values differ between two snapshots, e.g. the one on screen and
+     * a refreshed one. Compares packed IDs, flags and dictionary words a chunk at a time
+     * instead of formatting every cell, and only ever holds one snapshot's lock.
+     */
+    public static BitSet changedRows(VoterSnapshot previous, VoterSnapshot next, int count) {
+        BitSet changed = new BitSet();
+        DiffChunk chunk = new DiffChunk();
+        for (int from = 0; from < count; from += DIFF_CHUNK) {
+            int to = Math.min(count, from + DIFF_CHUNK);
+            previous.copyChunk(from, to, chunk);
+            next.compareChunk(from, to, chunk, changed);
+        }
+        return changed;
+    }
+
+    // One chunk of rows copied out of a snapshot for changedRows
+    private static final class DiffChunk {
+        final long[] ids = new long[DIFF_CHUNK];
+        final String[] irregularIds = new String[DIFF_CHUNK];
+        final String[] names = new String[DIFF_CHUNK];
+        final String[] surnames = new String[DIFF_CHUNK];
+        final BitSet fingerprint = new BitSet(DIFF_CHUNK);
+        final BitSet voted = new BitSet(DIFF_CHUNK);
+        int end;
+    }
+
+    private synchronized void copyChunk(int from, int to, DiffChunk chunk) {
+        chunk.end = Math.min(to, size);
+        chunk.fingerprint.clear();
+        chunk.voted.clear();
+        for (int row = from; row < chunk.end; row++) {
+            int i = row - from;
+            long packed = ids[row];
+            chunk.ids[i] = packed;
+            chunk.irregularIds[i] = packed < 0 ? irregularIds.get((int) (-packed - 1)) : null;
+            chunk.names[i] = words.get(nameCodes[row]);
+            chunk.surnames[i] = words.get(surnameCodes[row]);
+            chunk.fingerprint.set(i, fingerprint.get(row));
+            chunk.voted.set(i, voted.get(row));
+        }
+    }
+
+    private synchronized void compareChunk(int from, int to, DiffChunk chunk, BitSet changed) {
+        for (int row = from; row < to; row++) {
+            int i = row - from;
+            if (row >= chunk.end || row >= size) {
+                // Shrank since the count was taken; let the table reread it
+                changed.set(row);
+                continue;
+            }
+            long packed = ids[row];
+            boolean same = packed < 0
+                    ? irregularIds.get((int) (-packed - 1)).equals(chunk.irregularIds[i])
+                    : packed == chunk.ids[i];
+            same = same && fingerprint.get(row) == chunk.fingerprint.get(i)
+                    && voted.get(row) == chunk.voted.get(i)
+                    && words.get(nameCodes[row]).equals(chunk.names[i])
+                    && words.get(surnameCodes[row]).equals(chunk.surnames[i]);
+            if (!same) {
+                changed.set(row);
+            }
+        }
+    }
+
+    /**
+     * Row in the legacy Vector layout, for code that still expects it.
+     */
+    public synchronized Vector<Object> toRow(int row) {
+        Vector<Object> values = new Vector<>(5);
+        for (int column = 0; column < 5; column++) {
+            values.add(getValueAt(row, column));
+        }
+        return values;
+    }
+
+    @Override
+    public synchronized int getRowCount() {
+        return size;
+    }
+
+    @Override
+    public synchronized Object getValueAt(int row, int column) {
+        switch (column) {
+            case 0:
+                return getName(row);
+            case 1:
+                return getSurname(row);
+            case 2:
+                return getIdNumber(row);
+            case 3:
+                return hasFingerprint(row) ? CAPTURED : NOT_CAPTURED;
+            case 4:
+                return hasVoted(row) ? YES : NO;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Rough resident size of the columns and dictionary, for logging.
+     */
+    public synchronized long estimatedBytes() {
+        long bytes = (long) nameCodes.length * 4 + (long) surnameCodes.length * 4 + (long) ids.length * 8
+                + (long) wordRefs.length * 4 + fingerprint.size() / 8 + voted.size() / 8;
+        for (String word : words) {
+            bytes += 40 + 2L * word.length() + 32; // string + map entry
+        }
+        for (String id : irregularIds) {
+            bytes += 40 + 2L * id.length();
+        }
+        return bytes;
+    }
+
+    private void write(int row, String name, String surname, String idNumber, boolean hasFingerprint, boolean hasVoted) {
+        nameCodes[row] = encode(name);
+        surnameCodes[row] = encode(surname);
+        ids[row] = packId(idNumber);
+        fingerprint.set(row, hasFingerprint);
+        voted.set(row, hasVoted);
+    }
+
+    /**
+     * Code for the word, counting one more row that uses it.
+     */
+    private int encode(String word) {
+        String value = word == null ? "" : word;
+        Integer code = wordCodes.get(value);
+        if (code == null) {
+            code = words.size();
+            words.add(value);
+            wordCodes.put(value, code);
+            if (code >= wordRefs.length) {
+                wordRefs = Arrays.copyOf(wordRefs, Math.max(code + 1, wordRefs.length * 2));
+            }
+        }
+        if (wordRefs[code]++ == 0) {
+            liveWords++;
+        }
+        return code;
+    }
+
+    private void release(int code) {
+        if (--wordRefs[code] == 0) {
+            liveWords--;
+        }
+    }
+
+    private long packId(String idNumber) {
+        if (idNumber != null && idNumber.length() == ID_DIGITS) {
+            boolean digits = true;
+            for (int i = 0; i < ID_DIGITS && digits; i++) {
+                digits = Character.isDigit(idNumber.charAt(i)) && idNumber.charAt(i) < 128;
+            }
+            if (digits) {
+                return Long.parseLong(idNumber);
+            }
+        }
+        String value = idNumber == null ? "" : idNumber;
+        Integer index = irregularCodes.get(value);
+        if (index == null) {
+            index = irregularIds.size();
+            irregularIds.add(value);
+            irregularCodes.put(value, index);
+        }
+        liveIrregularIds++;
+        return -(index + 1);
+    }
+
+    private static boolean contains(char[] haystack, char[] needle) {
+        outer:
+        for (int start = 0; start + needle.length <= haystack.length; start++) {
+            for (int i = 0; i < needle.length; i++) {
+                if (haystack[start + i] != needle[i]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(needed, ids.length + (ids.length >> 1));
+        nameCodes = Arrays.copyOf(nameCodes, capacity);
+        surnameCodes = Arrays.copyOf(surnameCodes, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+    }
+
+    /**
+     * Moves bits from index from onwards by delta positions (1 to open a gap, -1 to close one).
+     */
+    private BitSet shiftBits(BitSet bits, int from, int delta) {
+        BitSet shifted = bits.get(0, Math.max(0, from + Math.min(0, delta)));
+        for (int i = bits.nextSetBit(from); i >= 0; i = bits.nextSetBit(i + 1)) {
+            shifted.set(i + delta);
+        }
+        return shifted;
+    }
+}
@@ -0,0 +1,268 @@
+package adminApp;
+
+import com.digitalpersona.uareu.*;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of enrolled voter templates used to catch the same finger
+ * being enrolled under a second ID. Templates are bucketed by finger position
+ * and scanned in parallel with early exit on the first match.
+ *
+ * The index is built into a fresh map and swapped in when complete; enrollments,
+ * re-captures and deletions made while it builds are replayed onto it first.
+ */
+public class VoterTemplateIndex {
+
+    private static final VoterTemplateIndex INSTANCE = new VoterTemplateIndex();
+
+    // Rows fetched per round trip while building the index
+    private static final int LOAD_BATCH_SIZE = 2000;
+    // Longest an enrollment waits for the duplicate check (configurable)
+    private static final long CHECK_BUDGET_MILLIS = Long.getLong("admin.dedup.budgetMillis", 1500);
+    // Finger position reported when the reader does not know which finger it saw
+    private static final int UNKNOWN_POSITION = 0;
+
+    private volatile Map<Integer, List<FingerprintTemplate>> buckets = new ConcurrentHashMap<>();
+    private final CountDownLatch loadedLatch = new CountDownLatch(1);
+    private volatile boolean loading = false;
+    // Changes made while a build is running, replayed onto it before it is swapped in; guarded by this
+    private boolean building = false;
+    private final List<Consumer<Map<Integer, List<FingerprintTemplate>>>> pendingChanges = new ArrayList<>();
+    private IdentificationEngine identificationEngine = IdentificationEngine.defaultEngine();
+
+    private VoterTemplateIndex() {
+    }
+
+    public static VoterTemplateIndex getInstance() {
+        return INSTANCE;
+    }
+
+    public void setIdentificationEngine(IdentificationEngine identificationEngine) {
+        this.identificationEngine = identificationEngine;
+    }
+
+    /**
+     * Starts building the index in the background if it has not been built yet.
+     */
+    public synchronized void warmUp() {
+        if (loading) {
+            return;
+        }
+        loading = true;
+        AdminExecutors.run(() -> {
+            try {
+                load();
+            } catch (SQLException | RuntimeException e) {
+                System.err.println("❌ Voter template index load failed: " + e.getMessage());
+                abandonBuild();
+            }
+        });
+    }
+
+    public boolean isLoaded() {
+        return loadedLatch.getCount() == 0;
+    }
+
+    private void load() throws SQLException {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            building = true;
+        }
+        Map<Integer, List<FingerprintTemplate>> built = new ConcurrentHashMap<>();
+        String lastId = "";
+        int total = 0, skipped = 0;
+        // The column list depends on the schema check, so run it before building the query
+        try (Connection conn = AdminDatabaseConnectivity.borrowConnection()) {
+            FingerprintTemplateStore.ensureSchema(conn);
+        }
+        String sql = "SELECT ID_NUMBER, NAME, SURNAME, " + FingerprintTemplateStore.templateColumns()
+                + " FROM VOTERS WHERE " + FingerprintTemplateStore.hasFingerprintCondition()
+                + " AND ID_NUMBER > ? ORDER BY ID_NUMBER LIMIT " + LOAD_BATCH_SIZE;
+
+        while (true) {
+            List<Object[]> rows = new ArrayList<>();
+            try (Connection conn = AdminDatabaseConnectivity.borrowConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, lastId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        lastId = rs.getString("ID_NUMBER");
+                        rows.add(new Object[]{lastId, rs.getString("NAME"), rs.getString("SURNAME"),
+                            rs.getBytes(FingerprintTemplateStore.FMD_COLUMN),
+                            rs.getString(FingerprintTemplateStore.FORMAT_COLUMN),
+                            rs.getBytes("FINGERPRINT")});
+                    }
+                }
+            }
+
+            // Template import/extraction is CPU bound, so convert the batch across cores
+            List<FingerprintTemplate> converted = rows.parallelStream()
+                    .map(r -> FingerprintTemplateStore.toTemplate((String) r[0], (String) r[1], (String) r[2],
+                            (byte[]) r[3], (String) r[4], (byte[]) r[5]))
+                    .filter(t -> t != null && t.getFmd() != null)
+                    .collect(Collectors.toList());
+            addAll(built, converted);
+            total += converted.size();
+            // Legacy rows whose stored image could not be turned into a template
+            skipped += rows.size() - converted.size();
+
+            if (rows.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        publish(built);
+        loadedLatch.countDown();
+        System.out.println("🗂️ Indexed " + total + " voter templates in " + (System.currentTimeMillis() - start) + " ms");
+        if (skipped > 0) {
+            System.err.println("⚠️ " + skipped + " voters with a fingerprint were left out of the duplicate check:"
+                    + " their stored fingerprint could not be converted to a template");
+        }
+    }
+
+    private synchronized void publish(Map<Integer, List<FingerprintTemplate>> built) {
+        for (Consumer<Map<Integer, List<FingerprintTemplate>>> change : pendingChanges) {
+            change.accept(built);
+        }
+        pendingChanges.clear();
+        building = false;
+        buckets = built;
+    }
+
+    private synchronized void abandonBuild() {
+        building = false;
+        pendingChanges.clear();
+        loading = false;
+    }
+
+    /**
+     * Applies a change to the live map, and queues it for the map being built if there is one.
+     * Changes must be safe to apply twice, since the build may already have read them.
+     */
+    private synchronized void apply(Consumer<Map<Integer, List<FingerprintTemplate>>> change) {
+        if (building) {
+            pendingChanges.add(change);
+        }
+        change.accept(buckets);
+    }
+
+    private static void addAll(Map<Integer, List<FingerprintTemplate>> target, List<FingerprintTemplate> templates) {
+        Map<Integer, List<FingerprintTemplate>> grouped = templates.stream()
+                .collect(Collectors.groupingBy(VoterTemplateIndex::positionOf));
+        for (Map.Entry<Integer, List<FingerprintTemplate>> entry : grouped.entrySet()) {
+            bucket(target, entry.getKey()).addAll(entry.getValue());
+        }
+    }
+
+    private static List<FingerprintTemplate> bucket(Map<Integer, List<FingerprintTemplate>> target, int position) {
+        return target.computeIfAbsent(position, p -> new CopyOnWriteArrayList<>());
+    }
+
+    private static void removeFrom(Map<Integer, List<FingerprintTemplate>> target, String idNumber) {
+        for (List<FingerprintTemplate> bucket : target.values()) {
+            bucket.removeIf(t -> t.getIdNumber().equals(idNumber));
+        }
+    }
+
+    private static int positionOf(FingerprintTemplate template) {
+        return positionOf(template.getFmd());
+    }
+
+    private static int positionOf(Fmd fmd) {
+        try {
+            return fmd.getViews()[0].getFingerPosition();
+        } catch (RuntimeException e) {
+            return UNKNOWN_POSITION;
+        }
+    }
+
+    /**
+     * Adds a voter that was just enrolled, replacing any template already held for the ID.
+     */
+    public void add(FingerprintTemplate template) {
+        if (template != null) {
+            replace(template.getIdNumber(), template);
+        }
+    }
+
+    /**
+     * Swaps in a voter's re-captured template, or just drops the old one if template is null.
+     */
+    public void replace(String idNumber, FingerprintTemplate template) {
+        boolean usable = template != null && template.getFmd() != null;
+        apply(target -> {
+            removeFrom(target, idNumber);
+            if (usable) {
+                bucket(target, positionOf(template)).add(template);
+            }
+        });
+    }
+
+    /**
+     * Drops a voter, e.g. after deletion.
+     */
+    public void remove(String idNumber) {
+        apply(target -> removeFrom(target, idNumber));
+    }
+
+    /**
+     * Looks for an enrolled voter with the same finger, within the interactive budget.
+     * Waits for the index to finish loading if needed, counting that time against the budget.
+     */
+    public IdentificationResult findDuplicate(Fmd probe) throws UareUException {
+        long start = System.currentTimeMillis();
+        warmUp();
+        try {
+            loadedLatch.await(CHECK_BUDGET_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long remaining = CHECK_BUDGET_MILLIS - (System.currentTimeMillis() - start);
+        if (!isLoaded() || remaining <= 0) {
+            return new IdentificationResult(null, Integer.MAX_VALUE, false, 0, System.currentTimeMillis() - start, false);
+        }
+
+        List<FingerprintTemplate> candidates = candidatesFor(positionOf(probe));
+        IdentificationResult result = identificationEngine.identify(
+                probe, candidates, IdentificationEngine.DEFAULT_THRESHOLD, remaining);
+        System.out.println("🔎 Duplicate check: " + result);
+        return result;
+    }
+
+    /**
+     * Templates worth comparing for a probe: the same finger position plus unknown positions,
+     * or everything when the probe's own position is unknown.
+     */
+    private List<FingerprintTemplate> candidatesFor(int position) {
+        Map<Integer, List<FingerprintTemplate>> current = buckets;
+        if (position == UNKNOWN_POSITION) {
+            List<FingerprintTemplate> all = new ArrayList<>();
+            for (List<FingerprintTemplate> bucket : current.values()) {
+                all.addAll(bucket);
+            }
+            return all;
+        }
+
+        List<FingerprintTemplate> candidates = new ArrayList<>(bucket(current, position));
+        candidates.addAll(bucket(current, UNKNOWN_POSITION));
+        return candidates;
+    }
+
+    public int size() {
+        int size = 0;
+        for (List<FingerprintTemplate> bucket : buckets.values()) {
+            size += bucket.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,93 @@
+package adminApp;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Vector;
+
+/**
+ * Computes the dashboard's five headline figures in one round trip and keeps
+ * latency figures for the refreshes it served.
+ *
+ * The figures are scalar subqueries of a single SELECT, so a refresh costs one
+ * network round trip instead of five. "Today" is a half-open vote_timestamp range
+ * so it can seek the vote_timestamp index (sql/002_votes_timestamp_index.sql).
+ */
+public class VotingSummaryEngine {
+
+    private static final VotingSummaryEngine INSTANCE = new VotingSummaryEngine();
+
+    // Refreshes slower than this are logged
+    private static final long SLOW_REFRESH_MILLIS = Long.getLong("admin.summary.slowMillis", 500);
+
+    private static final String SUMMARY_SQL = "SELECT "
+            + "(SELECT COUNT(*) FROM VOTERS) AS total_voters, "
+            + "(SELECT COUNT(DISTINCT voter_id_number) FROM Votes) AS total_votes, "
+            + "(SELECT COUNT(DISTINCT voter_id_number) FROM Votes "
+            + "WHERE vote_timestamp >= CURDATE() AND vote_timestamp < CURDATE() + INTERVAL 1 DAY) AS votes_today, "
+            + "(SELECT COUNT(*) FROM Votes) AS total_ballots, "
+            + "(SELECT COUNT(*) FROM FraudAttempts WHERE resolved = FALSE) AS open_fraud";
+
+    private long refreshes = 0;
+    private long totalMillis = 0;
+    private long maxMillis = 0;
+    private volatile long lastMillis = -1;
+
+    private VotingSummaryEngine() {
+    }
+
+    public static VotingSummaryEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Total voters, distinct voters who voted, distinct voters today, ballots cast and
+     * unresolved fraud attempts, in that order. Empty if the query failed.
+     */
+    public Vector<Object> fetch(Connection conn) {
+        Vector<Object> summary = new Vector<>();
+        long start = System.nanoTime();
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(SUMMARY_SQL)) {
+            if (rs.next()) {
+                summary.add(rs.getInt("total_voters"));
+                summary.add(rs.getInt("total_votes"));
+                summary.add(rs.getInt("votes_today"));
+                summary.add(rs.getInt("total_ballots"));
+                summary.add(rs.getInt("open_fraud"));
+            }
+        } catch (SQLException e) {
+            System.err.println("❌ Error retrieving voting statistics: " + e.getMessage());
+            return summary;
+        }
+        record((System.nanoTime() - start) / 1000000);
+        return summary;
+    }
+
+    private void record(long millis) {
+        synchronized (this) {
+            refreshes++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+        lastMillis = millis;
+        if (millis >= SLOW_REFRESH_MILLIS) {
+            System.out.println("🐢 Slow statistics summary: " + describeLatency());
+        }
+    }
+
+    /**
+     * Latency of the most recent successful refresh, or -1 before the first.
+     */
+    public long getLastLatencyMillis() {
+        return lastMillis;
+    }
+
+    public synchronized String describeLatency() {
+        if (refreshes == 0) {
+            return "no refreshes yet";
+        }
+        return "last " + lastMillis + " ms, avg " + (totalMillis / refreshes) + " ms, max " + maxMillis
+                + " ms over " + refreshes + " refreshes";
+    }
+}